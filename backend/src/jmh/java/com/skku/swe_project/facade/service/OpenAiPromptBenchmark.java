@@ -0,0 +1,80 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import com.skku.swe_project.place.dto.PlaceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAiService 프롬프트 조립 비용 (String.format / 텍스트 블록 formatted).
+ * 네트워크 호출은 포함하지 않음.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpenAiPromptBenchmark {
+
+    @Param({"0", "10", "40"})
+    private int historyTurns;
+
+    // 대화 기록 압축은 실제 설정 기본값으로 (토큰 예산 300)
+    private final OpenAiService openAiService = OpenAiService.forPrompts(
+            new HistoryCompactor(new StandardEnvironment(), new LocationGazetteer(), new SimpleMeterRegistry()));
+
+    private List<RecommendationRequest.Message> history;
+    private List<PlaceDto> spots;
+    private List<PlaceDto> foods;
+    private List<String> reviews;
+
+    @Setup
+    public void setUp() {
+        history = new ArrayList<>();
+        for (int i = 0; i < historyTurns; i++) {
+            history.add(i % 2 == 0
+                    ? new RecommendationRequest.Message("user", "강남역 근처 분위기 좋은 곳 알려줘")
+                    : new RecommendationRequest.Message("assistant", "강남역 근처 추천 장소를 정리해 드릴게요!"));
+        }
+
+        spots = new ArrayList<>();
+        foods = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            spots.add(PlaceDto.builder()
+                    .id((long) i).name("명소 " + i).category("공원").address("서울 강남구 테헤란로 " + i)
+                    .rating(4.3).build());
+            foods.add(PlaceDto.builder()
+                    .name("맛집 " + i).category("파스타").address("서울 강남구 강남대로 " + i)
+                    .rating(4.1 + i * 0.1).reviewSummary("면이 탱글하고 소스가 진해요.").build());
+        }
+
+        reviews = List.of(
+                "파스타 면 삶기가 정말 완벽했어요. 데이트하기 좋은 분위기!",
+                "웨이팅이 좀 있지만 기다릴 만한 맛입니다.",
+                "가격 대비 양이 많고 직원분들이 친절해요.",
+                "창가 자리 야경이 예뻐요. 와인 리스트도 괜찮습니다.");
+    }
+
+    @Benchmark
+    public String intentPrompt() {
+        return openAiService.buildIntentPrompt("강남역에서 파스타 먹고 싶어", history);
+    }
+
+    @Benchmark
+    public String courseSummaryPrompt() {
+        return openAiService.buildCourseSummaryPrompt(spots, foods);
+    }
+
+    @Benchmark
+    public String foodReportPrompt() {
+        return openAiService.buildFoodReportPrompt("강남역 파스타 맛집 추천해줘", foods);
+    }
+
+    @Benchmark
+    public String reviewSummaryPrompt() {
+        return openAiService.buildReviewSummaryPrompt("라구 파스타 강남점", reviews);
+    }
+}
@@ -0,0 +1,50 @@
+package com.skku.swe_project.food.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skku.swe_project.place.dto.PlaceDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kakao Local 키워드 검색 응답(documents 15건) -> PlaceDto 변환 비용.
+ * 입력은 src/jmh/resources/kakao 의 응답 샘플.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FoodServiceBenchmark {
+
+    private static final String PAYLOAD = "/kakao/keyword-search-gangnam-pasta.json";
+
+    private List<Map<String, Object>> documents;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = FoodServiceBenchmark.class.getResourceAsStream(PAYLOAD)) {
+            Map<String, Object> body = new ObjectMapper().readValue(in, new TypeReference<Map<String, Object>>() {});
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> docs = (List<Map<String, Object>>) body.get("documents");
+            documents = docs;
+        }
+    }
+
+    @Benchmark
+    public PlaceDto convertOne() {
+        return FoodService.convertKakaoDocToPlaceDto(documents.get(0));
+    }
+
+    // FoodService.findRestaurants 가 응답 한 번에 하는 변환 전체
+    @Benchmark
+    public void convertPayload(Blackhole bh) {
+        for (Map<String, Object> doc : documents) {
+            bh.consume(FoodService.convertKakaoDocToPlaceDto(doc));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.dto.PlaceDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 공간 인덱스 조회 비용 (카탈로그 크기별).
+ * fullScan 은 findPlacesByLocation 네이티브 쿼리가 하는 일
+ * (모든 행에 대해 거리 계산 -> 반경 필터 -> 거리순 정렬 -> LIMIT)을 메모리에서 그대로 재현한 비교 기준으로,
+ * 실제 DB 쿼리는 여기에 I/O 와 네트워크 왕복이 더해진다.
+ * 정확성 비교는 PlaceSpatialIndexTest 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlaceSpatialIndexBenchmark {
+
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1700", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Place> places;
+    private PlaceSpatialIndex index;
+    private double[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        places = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            places.add(Place.builder()
+                    .id((long) i)
+                    .name("place-" + i)
+                    .latitude(CENTER_LAT + (random.nextDouble() - 0.5) * 0.4)
+                    .longitude(CENTER_LNG + (random.nextDouble() - 0.5) * 0.4)
+                    .build());
+        }
+        index = PlaceSpatialIndex.detached();
+        index.rebuild(places);
+
+        queries = new double[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new double[]{
+                    CENTER_LAT + (random.nextDouble() - 0.5) * 0.3,
+                    CENTER_LNG + (random.nextDouble() - 0.5) * 0.3};
+        }
+    }
+
+    @Benchmark
+    public List<PlaceDto> findWithinRadius() {
+        double[] q = queries[next++ & (QUERY_COUNT - 1)];
+        return index.findWithinRadius(q[0], q[1], 2000, 30);
+    }
+
+    @Benchmark
+    public List<Place> fullScan() {
+        double[] q = queries[next++ & (QUERY_COUNT - 1)];
+        List<Place> hits = new ArrayList<>();
+        for (Place p : places) {
+            if (PlaceSpatialIndex.haversine(q[0], q[1], p.getLatitude(), p.getLongitude()) <= 2000) {
+                hits.add(p);
+            }
+        }
+        hits.sort(Comparator.comparingDouble(p -> PlaceSpatialIndex.haversine(q[0], q[1], p.getLatitude(), p.getLongitude())));
+        return hits.subList(0, Math.min(30, hits.size()));
+    }
+
+    @Benchmark
+    public List<PlaceDto> findNearest() {
+        double[] q = queries[next++ & (QUERY_COUNT - 1)];
+        return index.findNearest(q[0], q[1], 10);
+    }
+}
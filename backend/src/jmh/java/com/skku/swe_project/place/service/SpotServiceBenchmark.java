@@ -0,0 +1,53 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.dto.PlaceDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 명소 후보 -> 응답 DTO 변환 비용 (요청당 후보 최대 30개 중 5개 변환).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpotServiceBenchmark {
+
+    private List<Place> places;
+    private List<PlaceDto> candidates;
+
+    @Setup
+    public void setUp() {
+        places = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            places.add(Place.builder()
+                    .id((long) i)
+                    .name("명소 " + i)
+                    .category("문화,예술 > 전시관")
+                    .address("서울 종로구 세종대로 " + (100 + i))
+                    .latitude(37.57 + i * 0.0005)
+                    .longitude(126.97 + i * 0.0005)
+                    .rating(4.2f)
+                    .reviewSummary("조용하고 산책하기 좋은 곳. 저녁 야경이 특히 예쁘다는 리뷰가 많음.")
+                    .imageUrls(List.of(
+                            "https://example.com/spot/" + i + "/1.jpg",
+                            "https://example.com/spot/" + i + "/2.jpg"))
+                    .build());
+        }
+        candidates = places.stream().map(SpotService::convertToDto).toList();
+    }
+
+    @Benchmark
+    public PlaceDto convertToDto() {
+        return SpotService.convertToDto(places.get(0));
+    }
+
+    @Benchmark
+    public void pickSpots(Blackhole bh) {
+        bh.consume(SpotService.pickSpots(candidates));
+    }
+}
@@ -0,0 +1,90 @@
+package com.skku.swe_project.place.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * image_urls 컬럼 (JSON 문자열 <-> List<String>) 변환 비용.
+ * Place 한 건을 읽을 때마다 decode 가 한 번 일어남.
+ *
+ * eager* 는 변경 전 방식(매번 readValue + 새 TypeReference)을 그대로 재현한 기준값.
+ * gc.alloc.rate.norm 을 비교하면 lazy decode 로 줄어든 요청당 할당량을 볼 수 있음.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringListConverterBenchmark {
+
+    // SpotService: 후보 30개를 읽고 5개만 응답에 사용
+    private static final int CANDIDATES = 30;
+    private static final int PICKED = 5;
+
+    @Param({"0", "3", "10"})
+    private int urlCount;
+
+    private final StringListConverter converter = new StringListConverter();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private List<String> urls;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        urls = new ArrayList<>();
+        for (int i = 0; i < urlCount; i++) {
+            urls.add("https://lh3.googleusercontent.com/p/AF1QipN" + i + "x7kQ2vZ_sample-photo=s1600-w800");
+        }
+        json = converter.convertToDatabaseColumn(urls);
+    }
+
+    @Benchmark
+    public String encode() {
+        return converter.convertToDatabaseColumn(urls);
+    }
+
+    @Benchmark
+    public List<String> decodeEager() throws IOException {
+        return mapper.readValue(json, new TypeReference<List<String>>() {});
+    }
+
+    // 읽기만 하고 원소는 안 건드리는 경우 (셔플에서 탈락한 25개)
+    @Benchmark
+    public List<String> decodeLazyUnread() {
+        return converter.convertToEntityAttribute(json);
+    }
+
+    @Benchmark
+    public int decodeLazyRead() {
+        return converter.convertToEntityAttribute(json).size();
+    }
+
+    @Benchmark
+    public void candidatesEager(Blackhole bh) throws IOException {
+        List<List<String>> rows = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            rows.add(mapper.readValue(json, new TypeReference<List<String>>() {}));
+        }
+        for (int i = 0; i < PICKED; i++) {
+            bh.consume(mapper.writeValueAsString(rows.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void candidatesLazy(Blackhole bh) {
+        List<List<String>> rows = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            rows.add(converter.convertToEntityAttribute(json));
+        }
+        // 응답 직렬화는 @JsonRawValue -> toString() 이 원본 JSON
+        for (int i = 0; i < PICKED; i++) {
+            bh.consume(JsonStringList.of(rows.get(i)).toString());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.skku.swe_project.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * stub 서버 응답 지연 분포 (log-normal, median / p99 로 지정).
+ * 예: "40,200" -> 중앙값 40ms, p99 200ms. "0" 이면 지연 없음.
+ */
+final class LatencyDistribution {
+
+    private static final double Z_99 = 2.326; // 표준정규분포 99 백분위
+
+    private final double mu;
+    private final double sigma;
+    private final boolean none;
+
+    private LatencyDistribution(double medianMs, double p99Ms) {
+        this.none = medianMs <= 0;
+        this.mu = none ? 0 : Math.log(medianMs);
+        this.sigma = none ? 0 : Math.max(0, (Math.log(Math.max(p99Ms, medianMs)) - mu) / Z_99);
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(",");
+        double median = Double.parseDouble(parts[0].trim());
+        double p99 = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : median;
+        return new LatencyDistribution(median, p99);
+    }
+
+    long sampleMillis() {
+        if (none) return 0;
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(Math.exp(mu + sigma * gaussian));
+    }
+
+    void sleep() {
+        long millis = sampleMillis();
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (none) return "none";
+        return String.format("median=%.0fms p99=%.0fms", Math.exp(mu), Math.exp(mu + sigma * Z_99));
+    }
+}
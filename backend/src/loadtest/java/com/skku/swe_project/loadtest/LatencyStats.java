@@ -0,0 +1,50 @@
+package com.skku.swe_project.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 응답 시간 샘플 모음 (요청 수가 많지 않으므로 전부 저장 후 정렬해서 백분위 계산).
+ */
+final class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long nanos, boolean ok) {
+        if (!ok) {
+            errors++;
+            return;
+        }
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors);
+    }
+
+    record Snapshot(long[] sorted, long errors) {
+
+        long count() {
+            return sorted.length;
+        }
+
+        double percentileMillis(double p) {
+            if (sorted.length == 0) return 0;
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, idx))] / 1_000_000.0;
+        }
+
+        double meanMillis() {
+            if (sorted.length == 0) return 0;
+            double sum = 0;
+            for (long v : sorted) sum += v;
+            return sum / sorted.length / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.skku.swe_project.loadtest;
+
+import com.skku.swe_project.SweProjectApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /api/recommend 부하 테스트 (./gradlew loadTest).
+ *
+ * 1. Kakao / Google / OpenAI stub 서버를 로컬에 띄우고
+ * 2. 앱을 같은 JVM 에서 stub 주소로 기동 (DB 설정은 application.yml 그대로 사용)
+ * 3. SPOT / FOOD / COURSE 요청을 비율대로 섞어 고정 동시성으로 보내고
+ * 4. 처리량, 지연 백분위, 스레드/힙 사용량을 출력
+ *
+ * 설정 (-D 또는 gradle -P 로 전달):
+ *   loadtest.target            이미 떠 있는 앱 주소 (지정하면 앱을 띄우지 않음, stub 주소만 출력)
+ *   loadtest.concurrency       동시 사용자 수 (기본 32)
+ *   loadtest.warmup-seconds    워밍업 시간, 결과에서 제외 (기본 10)
+ *   loadtest.duration-seconds  측정 시간 (기본 60)
+ *   loadtest.mix               의도별 비율 (기본 SPOT:30,FOOD:40,COURSE:30)
+ *   loadtest.latency.kakao     stub 지연 "중앙값,p99" ms (기본 40,150)
+ *   loadtest.latency.google    (기본 80,400)
+ *   loadtest.latency.openai    (기본 700,2500)
+ *   loadtest.cache-busting     true 면 질문/장소명을 매번 바꿔 앱 캐시를 무력화 (기본 true)
+ *   loadtest.ramp-seconds      동시 사용자를 이 시간에 걸쳐 나눠서 시작 (기본 0 = 한 번에)
+ *   loadtest.provider-limits   app = 앱 기본 제공자 한도 그대로 (기본)
+ *                              unbounded = rate limit / 동시 호출 한도 / 커넥션 풀을 크게 풀어서
+ *                                          앱 자체가 동시 요청을 얼마나 들고 있을 수 있는지만 측정
+ *                              (기본 한도에서는 OpenAI bulkhead 가 8개만 통과시키므로 고동시성 요청 대부분이
+ *                               3초 대기 후 대체 문구로 끝남 -> 수천 in-flight 수치는 unbounded 에서만 의미 있음)
+ *
+ * 가상 사용자는 가상 스레드라서 동시성 수천도 부하 생성기 쪽 부담 없이 돌릴 수 있다.
+ */
+public final class LoadTestRunner {
+
+    private static final Map<String, String> QUERIES = Map.of(
+            "SPOT", "강남역 근처 산책할 만한 명소 알려줘",
+            "FOOD", "강남역 파스타 맛집 추천해줘",
+            "COURSE", "강남역 데이트 코스 짜줘");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix", "SPOT:30,FOOD:40,COURSE:30"));
+        boolean cacheBusting = Boolean.parseBoolean(System.getProperty("loadtest.cache-busting", "true"));
+        String target = System.getProperty("loadtest.target", "");
+        int rampSeconds = Integer.getInteger("loadtest.ramp-seconds", 0);
+        String providerLimits = System.getProperty("loadtest.provider-limits", "app");
+
+        LatencyDistribution kakaoLatency = LatencyDistribution.parse(System.getProperty("loadtest.latency.kakao", "40,150"));
+        LatencyDistribution googleLatency = LatencyDistribution.parse(System.getProperty("loadtest.latency.google", "80,400"));
+        LatencyDistribution openAiLatency = LatencyDistribution.parse(System.getProperty("loadtest.latency.openai", "700,2500"));
+
+        try (StubServers stubs = new StubServers(cacheBusting, kakaoLatency, googleLatency, openAiLatency)) {
+            stubs.start();
+
+            List<String> appArgList = new ArrayList<>(List.of(
+                    "--kakao.api.base-url=" + stubs.kakaoBaseUrl(),
+                    "--kakao.api.key=loadtest",
+                    "--google.api.base-url=" + stubs.googleBaseUrl(),
+                    "--google.api.key=loadtest",
+                    "--openai.api.url=" + stubs.openAiUrl(),
+                    "--openai.api.key=loadtest",
+                    "--server.port=0"
+            ));
+            if (cacheBusting) {
+                // 질문이 달라도 (지역, 검색어) 가 같으면 응답 캐시에 걸리므로 같이 끔
+                appArgList.add("--recommend.cache.enabled=false");
+            }
+            if ("unbounded".equalsIgnoreCase(providerLimits)) {
+                appArgList.addAll(unboundedProviderArgs(concurrency));
+            }
+            String[] appArgs = appArgList.toArray(new String[0]);
+
+            ConfigurableApplicationContext app = null;
+            if (target.isBlank()) {
+                app = new SpringApplicationBuilder(SweProjectApplication.class).run(appArgs);
+                target = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            } else {
+                System.out.println("외부 앱 대상 모드. 앱을 아래 설정으로 띄워야 stub 을 사용합니다:");
+                for (String arg : appArgs) System.out.println("  " + arg);
+            }
+
+            try {
+                System.out.printf("stub 지연: kakao[%s] google[%s] openai[%s], cache-busting=%s, provider-limits=%s%n",
+                        kakaoLatency, googleLatency, openAiLatency, cacheBusting, providerLimits);
+                if (!"unbounded".equalsIgnoreCase(providerLimits)) {
+                    // 앱 기본 한도(OpenAI 동시 8개, 대기 3초)에서는 대부분의 요청이 LLM 을 기다리지 않고
+                    // 대체 문구로 끝나므로, 동시 처리 중 요청 수는 LLM 을 붙잡은 요청이 아니라 한도에 막힌 요청까지 포함
+                    System.out.println("※ provider-limits=app: 동시 처리 수치는 제공자 한도(bulkhead)에 걸려 "
+                            + "대체 응답으로 끝난 요청을 포함합니다. 앱 자체 수용량은 provider-limits=unbounded 로 측정하세요.");
+                }
+                run(target, concurrency, rampSeconds, warmupSeconds, durationSeconds, mix, cacheBusting, stubs);
+            } finally {
+                if (app != null) app.close();
+            }
+        }
+    }
+
+    // 제공자 쪽 한도를 동시성보다 넉넉하게 (stub 은 한도가 없으므로)
+    private static List<String> unboundedProviderArgs(int concurrency) {
+        int limit = Math.max(1_000, concurrency * 4);
+        List<String> args = new ArrayList<>();
+        for (String provider : List.of("kakao", "google", "openai")) {
+            args.add("--outbound." + provider + ".max-concurrency=" + limit);
+            args.add("--outbound." + provider + ".rate-per-second=1000000");
+            args.add("--outbound." + provider + ".pool-wait-timeout-ms=60000");
+        }
+        args.add("--outbound.acquire-timeout-ms=60000");
+        args.add("--outbound.pool.max-total=" + limit * 3);
+        args.add("--outbound.pool.max-per-route=" + limit);
+        return args;
+    }
+
+    private static void run(String target, int concurrency, int rampSeconds, int warmupSeconds, int durationSeconds,
+                            Map<String, Integer> mix, boolean cacheBusting, StubServers stubs)
+            throws InterruptedException {
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI uri = URI.create(target + "/api/recommend");
+
+        Map<String, LatencyStats> stats = new LinkedHashMap<>();
+        mix.keySet().forEach(intent -> stats.put(intent, new LatencyStats()));
+        List<String> weighted = new ArrayList<>();
+        mix.forEach((intent, weight) -> {
+            for (int i = 0; i < weight; i++) weighted.add(intent);
+        });
+
+        AtomicLong sequence = new AtomicLong();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        long startNanos = System.nanoTime();
+        long rampNanos = Duration.ofSeconds(rampSeconds).toNanos();
+        long measureFrom = startNanos + rampNanos + Duration.ofSeconds(warmupSeconds).toNanos();
+        long stopAt = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        System.out.printf("▶ %s 에 동시성 %d 로 램프업 %ds + 워밍업 %ds + 측정 %ds, mix=%s%n",
+                uri, concurrency, rampSeconds, warmupSeconds, durationSeconds, mix);
+
+        CountDownLatch done = new CountDownLatch(concurrency);
+        Thread.Builder users = Thread.ofVirtual().name("loadtest-user-", 0);
+        for (int i = 0; i < concurrency; i++) {
+            long startAt = startNanos + rampNanos * i / concurrency;
+            users.start(() -> {
+                try {
+                    sleepUntil(startAt);
+                    while (System.nanoTime() < stopAt) {
+                        String intent = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                        String query = QUERIES.get(intent);
+                        if (cacheBusting) query += " (" + sequence.incrementAndGet() + ")";
+
+                        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        long begin = System.nanoTime();
+                        boolean ok = send(client, uri, query);
+                        long end = System.nanoTime();
+                        inFlight.decrementAndGet();
+
+                        if (begin >= measureFrom && end <= stopAt) {
+                            stats.get(intent).record(end - begin, ok);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 워밍업이 끝나면 리소스 샘플링 시작
+        Thread.sleep(Math.max(0, (measureFrom - System.nanoTime()) / 1_000_000));
+        ResourceSampler sampler = new ResourceSampler(200);
+        try {
+            done.await();
+        } finally {
+            sampler.close();
+        }
+
+        report(stats, durationSeconds, concurrency, peakInFlight.get(), sampler, stubs);
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(remaining));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean send(HttpClient client, URI uri, String query) {
+        String body = "{\"query\":\"" + query.replace("\"", "\\\"") + "\",\"history\":[]}";
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && response.body().contains("\"SUCCESS\"");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void report(Map<String, LatencyStats> stats, int durationSeconds, int concurrency,
+                               int peakInFlight, ResourceSampler sampler, StubServers stubs) {
+        LatencyStats all = new LatencyStats();
+        System.out.println();
+        System.out.printf("%-8s | %8s | %7s | %9s | %9s | %9s | %9s | %9s | %6s%n",
+                "intent", "requests", "req/s", "mean(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors");
+        for (Map.Entry<String, LatencyStats> e : stats.entrySet()) {
+            LatencyStats.Snapshot s = e.getValue().snapshot();
+            printRow(e.getKey(), s, durationSeconds);
+            for (long v : s.sorted()) all.record(v, true);
+            for (long i = 0; i < s.errors(); i++) all.record(0, false);
+        }
+        printRow("ALL", all.snapshot(), durationSeconds);
+
+        System.out.println();
+        System.out.printf("동시성 %d, 스레드 최대 %d, 힙 최대 %d MB / 평균 %d MB, GC %d회 (%d ms)%n",
+                concurrency, sampler.peakThreads(),
+                sampler.peakHeapBytes() / (1024 * 1024), sampler.averageHeapBytes() / (1024 * 1024),
+                sampler.gcCountDelta(), sampler.gcTimeMillisDelta());
+        System.out.printf("동시 처리 중 요청 최대 %d개, GC 직후 힙(live) 시작 %d MB -> 끝 %d MB (최대 %d MB)%n",
+                peakInFlight, sampler.firstLiveHeapBytes() / (1024 * 1024),
+                sampler.lastLiveHeapBytes() / (1024 * 1024), sampler.peakLiveHeapBytes() / (1024 * 1024));
+        System.out.println("stub 호출 수 (워밍업 포함): " + stubs.hitCounts());
+    }
+
+    private static void printRow(String name, LatencyStats.Snapshot s, int durationSeconds) {
+        System.out.printf("%-8s | %8d | %7.1f | %9.1f | %9.1f | %9.1f | %9.1f | %9.1f | %6d%n",
+                name, s.count(), (double) s.count() / durationSeconds, s.meanMillis(),
+                s.percentileMillis(0.50), s.percentileMillis(0.95), s.percentileMillis(0.99),
+                s.percentileMillis(1.0), s.errors());
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            String intent = kv[0].trim().toUpperCase();
+            if (!QUERIES.containsKey(intent)) {
+                throw new IllegalArgumentException("알 수 없는 intent: " + intent + " (SPOT / FOOD / COURSE)");
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) mix.put(intent, weight);
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("loadtest.mix 가 비어 있습니다");
+        return mix;
+    }
+}
@@ -0,0 +1,131 @@
+package com.skku.swe_project.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 부하 테스트 중 JVM 스레드 수 / 힙 사용량 / GC 를 주기적으로 샘플링.
+ * 앱을 같은 JVM 에서 띄우므로 앱 자체의 수치가 측정됨 (stub 서버 스레드 포함).
+ */
+final class ResourceSampler implements AutoCloseable {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final Thread sampler;
+
+    private volatile boolean running = true;
+    private volatile int peakThreads;
+    private volatile long peakHeapBytes;
+    private long heapSum;
+    private long sampleCount;
+
+    // 마지막 GC 직후 힙 사용량 (= 살아있는 객체 크기). 처음/끝을 비교해서 요청이 쌓이며 메모리가 새는지 확인
+    private long firstLiveHeapBytes = -1;
+    private volatile long lastLiveHeapBytes;
+    private volatile long peakLiveHeapBytes;
+
+    private final long gcCountAtStart;
+    private final long gcTimeAtStart;
+
+    ResourceSampler(long intervalMillis) {
+        this.gcCountAtStart = gcCount();
+        this.gcTimeAtStart = gcTimeMillis();
+        threads.resetPeakThreadCount();
+        this.sampler = new Thread(() -> {
+            while (running) {
+                sample();
+                try {
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "loadtest-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    private synchronized void sample() {
+        long heap = memory.getHeapMemoryUsage().getUsed();
+        peakHeapBytes = Math.max(peakHeapBytes, heap);
+        peakThreads = Math.max(peakThreads, threads.getThreadCount());
+        heapSum += heap;
+        sampleCount++;
+
+        long live = liveHeapBytes();
+        if (live > 0) {
+            if (firstLiveHeapBytes < 0) firstLiveHeapBytes = live;
+            lastLiveHeapBytes = live;
+            peakLiveHeapBytes = Math.max(peakLiveHeapBytes, live);
+        }
+    }
+
+    int peakThreads() {
+        return Math.max(peakThreads, threads.getPeakThreadCount());
+    }
+
+    long peakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    synchronized long averageHeapBytes() {
+        return sampleCount == 0 ? 0 : heapSum / sampleCount;
+    }
+
+    synchronized long firstLiveHeapBytes() {
+        return Math.max(0, firstLiveHeapBytes);
+    }
+
+    long lastLiveHeapBytes() {
+        return lastLiveHeapBytes;
+    }
+
+    long peakLiveHeapBytes() {
+        return peakLiveHeapBytes;
+    }
+
+    long gcCountDelta() {
+        return gcCount() - gcCountAtStart;
+    }
+
+    long gcTimeMillisDelta() {
+        return gcTimeMillis() - gcTimeAtStart;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        sampler.interrupt();
+    }
+
+    private static long liveHeapBytes() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) continue;
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null) total += afterGc.getUsed();
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,274 @@
+package com.skku.swe_project.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kakao Local / Google Places / OpenAI 를 흉내내는 로컬 HTTP 서버.
+ * - Kakao, Google 은 src/loadtest/resources/stubs 의 응답 샘플을 그대로 돌려줌
+ * - OpenAI 는 프롬프트 종류(의도 분석 / 키워드 / 요약)에 맞는 형식으로 응답, stream=true 면 SSE 로 조각내서 전송
+ * - cacheBusting=true 면 장소 이름/place_id 를 요청마다 바꿔서 앱 쪽 캐시가 맞지 않도록 함 (콜드 캐시 측정)
+ */
+final class StubServers implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String SUMMARY_TEXT =
+            "강남역에서 시작하는 오늘의 데이트 💕 먼저 분위기 좋은 파스타집에서 든든하게 식사하고, "
+                    + "근처 산책로를 천천히 걸으며 이야기를 나눠보세요. 저녁에는 야경이 예쁜 카페에서 "
+                    + "디저트로 마무리하면 완벽한 하루가 될 거예요 ❤️";
+
+    private final boolean cacheBusting;
+    private final LatencyDistribution kakaoLatency;
+    private final LatencyDistribution googleLatency;
+    private final LatencyDistribution openAiLatency;
+
+    private final JsonNode kakaoPayload;
+    private final String textSearchTemplate;
+    private final String detailsTemplate;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, LongAdder> hits = new HashMap<>();
+    private final List<HttpServer> servers = new ArrayList<>();
+    // 요청마다 가상 스레드 (동시성 수천에서도 stub 쪽 스레드 수가 측정값을 흐리지 않도록)
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("stub-http-", 0).factory());
+
+    private HttpServer kakao;
+    private HttpServer google;
+    private HttpServer openAi;
+
+    StubServers(boolean cacheBusting,
+                LatencyDistribution kakaoLatency,
+                LatencyDistribution googleLatency,
+                LatencyDistribution openAiLatency) {
+        this.cacheBusting = cacheBusting;
+        this.kakaoLatency = kakaoLatency;
+        this.googleLatency = googleLatency;
+        this.openAiLatency = openAiLatency;
+        try {
+            this.kakaoPayload = MAPPER.readTree(resource("kakao-keyword-search.json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.textSearchTemplate = resource("google-textsearch.json");
+        this.detailsTemplate = resource("google-details.json");
+        for (String name : List.of("kakao.keyword", "google.textsearch", "google.details", "openai.chat")) {
+            hits.put(name, new LongAdder());
+        }
+    }
+
+    void start() throws IOException {
+        kakao = server(Map.of("/v2/local/search/keyword.json", this::kakaoKeywordSearch));
+        google = server(Map.of(
+                "/maps/api/place/textsearch/json", this::googleTextSearch,
+                "/maps/api/place/details/json", this::googleDetails));
+        openAi = server(Map.of("/v1/chat/completions", this::openAiChat));
+    }
+
+    String kakaoBaseUrl() {
+        return baseUrl(kakao);
+    }
+
+    String googleBaseUrl() {
+        return baseUrl(google);
+    }
+
+    String openAiUrl() {
+        return baseUrl(openAi) + "/v1/chat/completions";
+    }
+
+    Map<String, Long> hitCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        hits.forEach((name, adder) -> counts.put(name, adder.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        servers.forEach(server -> server.stop(0));
+        executor.shutdownNow();
+    }
+
+    // =====================================================
+    // 핸들러
+    // =====================================================
+
+    private void kakaoKeywordSearch(HttpExchange exchange) throws IOException {
+        hits.get("kakao.keyword").increment();
+        kakaoLatency.sleep();
+
+        JsonNode body = kakaoPayload;
+        if (cacheBusting) {
+            long seq = sequence.incrementAndGet();
+            ObjectNode copy = kakaoPayload.deepCopy();
+            for (JsonNode doc : (ArrayNode) copy.get("documents")) {
+                ((ObjectNode) doc).put("place_name", doc.get("place_name").asText() + " " + seq);
+            }
+            body = copy;
+        }
+        respondJson(exchange, MAPPER.writeValueAsBytes(body));
+    }
+
+    private void googleTextSearch(HttpExchange exchange) throws IOException {
+        hits.get("google.textsearch").increment();
+        googleLatency.sleep();
+
+        String query = queryParam(exchange, "query");
+        String placeId = "stub-" + Integer.toHexString(query.hashCode());
+        respondJson(exchange, textSearchTemplate
+                .replace("{{place_id}}", placeId)
+                .replace("{{name}}", query.replace("\"", ""))
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void googleDetails(HttpExchange exchange) throws IOException {
+        hits.get("google.details").increment();
+        googleLatency.sleep();
+
+        String placeId = queryParam(exchange, "place_id");
+        double rating = 3.5 + (Math.abs(placeId.hashCode()) % 15) / 10.0;
+        respondJson(exchange, detailsTemplate
+                .replace("{{place_id}}", placeId)
+                .replace("{{rating}}", String.format("%.1f", rating))
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void openAiChat(HttpExchange exchange) throws IOException {
+        hits.get("openai.chat").increment();
+
+        JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+        String prompt = request.path("messages").path(1).path("content").asText("");
+        boolean stream = request.path("stream").asBoolean(false);
+        String content = chatContent(prompt);
+
+        openAiLatency.sleep();
+
+        if (!stream) {
+            ObjectNode body = MAPPER.createObjectNode();
+            body.put("object", "chat.completion");
+            body.putArray("choices").addObject()
+                    .put("index", 0)
+                    .put("finish_reason", "stop")
+                    .putObject("message").put("role", "assistant").put("content", content);
+            body.putObject("usage").put("total_tokens", prompt.length() / 2 + content.length());
+            respondJson(exchange, MAPPER.writeValueAsBytes(body));
+            return;
+        }
+
+        // SSE: 8글자씩 잘라서 흘려보냄
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < content.length(); i += 8) {
+                ObjectNode chunk = MAPPER.createObjectNode();
+                chunk.putArray("choices").addObject().putObject("delta")
+                        .put("content", content.substring(i, Math.min(content.length(), i + 8)));
+                out.write(("data: " + MAPPER.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // OpenAiService 프롬프트 종류별로 앱이 기대하는 형식의 답을 만들어줌
+    private static String chatContent(String prompt) {
+        if (prompt.contains("[응답 형식(JSON 만 출력)]")) {
+            String question = between(prompt, "[현재 사용자 질문]: \"", "\"");
+            String intent = question.contains("맛집") || question.contains("파스타") ? "FOOD"
+                    : question.contains("명소") || question.contains("산책") ? "SPOT"
+                    : "COURSE";
+            return "{\"intent\": \"" + intent + "\", \"location\": \"강남역\"}";
+        }
+        if (prompt.contains("KakaoMap 키워드 검색")) {
+            return "강남역 파스타";
+        }
+        if (prompt.contains("리뷰를 요약하는 에디터")) {
+            return "면이 탱글하고 소스가 진한 파스타집으로, 분위기가 좋아 데이트하기 좋다는 평이 많아요.";
+        }
+        return SUMMARY_TEXT;
+    }
+
+    // =====================================================
+    // 공통
+    // =====================================================
+
+    private HttpServer server(Map<String, HttpHandler> routes) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        routes.forEach((path, handler) -> server.createContext(path, exchange -> {
+            try {
+                handler.handle(exchange);
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+            }
+        }));
+        server.setExecutor(executor);
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void respondJson(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) return "";
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static String between(String text, String start, String end) {
+        int from = text.indexOf(start);
+        if (from < 0) return "";
+        from += start.length();
+        int to = text.indexOf(end, from);
+        return to < 0 ? text.substring(from) : text.substring(from, to);
+    }
+
+    private static String resource(String name) {
+        try (InputStream in = StubServers.class.getResourceAsStream("/stubs/" + name)) {
+            if (in == null) throw new IllegalStateException("stub 응답 파일이 없습니다: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.skku.swe_project.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -21,4 +22,27 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 추천 요청 처리 (/api/recommend, /api/recommend/stream, 추측 조회)
+    // 대부분 LLM/외부 API 응답 대기라서 요청마다 가상 스레드 하나씩 사용 (풀 크기 제한 없음)
+    // 외부 제공자별 동시 호출 수는 ProviderGuard / ProviderConcurrencyLimiter 가 따로 제한
+    @Bean(name = "recommendationExecutor")
+    public Executor recommendationExecutor() {
+        return virtualThreadExecutor("Recommend-");
+    }
+
+    // 외부 API 보강(Google 평점/리뷰, 리뷰 요약) 전용
+    // 요청 하나가 장소 수만큼 fan-out 하므로 고정 크기 풀이면 동시 요청이 많을 때 금방 포화됨 -> 가상 스레드
+    @Bean(name = "enrichmentExecutor")
+    public Executor enrichmentExecutor() {
+        return virtualThreadExecutor("Enrich-");
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        // 종료 시 진행 중인 작업을 잠깐 기다려줌
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
 }
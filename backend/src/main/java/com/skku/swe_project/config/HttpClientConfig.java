@@ -0,0 +1,102 @@
+package com.skku.swe_project.config;
+
+import com.skku.swe_project.metrics.OutboundMetricsInterceptor;
+import com.skku.swe_project.metrics.PipelineMetrics;
+import com.skku.swe_project.outbound.OutboundProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API(Kakao / Google / OpenAI) 공용 HTTP 클라이언트 설정.
+ * - 커넥션 풀 하나를 공유 (호스트별 풀 + keep-alive 로 TLS 핸드셰이크 재사용)
+ * - 제공자별 RestTemplate 은 응답/풀 대기 timeout 만 다르게 설정
+ * - 풀 상태(leased / pending / available)는 Micrometer 메트릭으로 노출
+ * - 호출마다 outbound.request 타이머 기록 (OutboundMetricsInterceptor)
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            @Value("${outbound.pool.max-total:200}") int maxTotal,
+            @Value("${outbound.pool.max-per-route:50}") int maxPerRoute,
+            @Value("${outbound.pool.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${outbound.pool.time-to-live-seconds:300}") long timeToLiveSeconds,
+            MeterRegistry meterRegistry) {
+
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute) // route = 호스트 단위
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(manager, "outbound").bindTo(meterRegistry);
+        return manager;
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(
+            PoolingHttpClientConnectionManager outboundConnectionManager,
+            @Value("${outbound.kakao.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${outbound.kakao.pool-wait-timeout-ms:1000}") long poolWaitMs,
+            PipelineMetrics pipelineMetrics) {
+        return restTemplate(outboundConnectionManager, readTimeoutMs, poolWaitMs,
+                new OutboundMetricsInterceptor(OutboundProvider.KAKAO, pipelineMetrics));
+    }
+
+    @Bean
+    public RestTemplate googleRestTemplate(
+            PoolingHttpClientConnectionManager outboundConnectionManager,
+            @Value("${outbound.google.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${outbound.google.pool-wait-timeout-ms:1000}") long poolWaitMs,
+            PipelineMetrics pipelineMetrics) {
+        return restTemplate(outboundConnectionManager, readTimeoutMs, poolWaitMs,
+                new OutboundMetricsInterceptor(OutboundProvider.GOOGLE, pipelineMetrics));
+    }
+
+    // LLM 응답(특히 스트리밍 리포트)은 길게 걸릴 수 있으므로 read timeout 을 넉넉히
+    @Bean
+    public RestTemplate openAiRestTemplate(
+            PoolingHttpClientConnectionManager outboundConnectionManager,
+            @Value("${outbound.openai.read-timeout-ms:60000}") long readTimeoutMs,
+            @Value("${outbound.openai.pool-wait-timeout-ms:2000}") long poolWaitMs,
+            PipelineMetrics pipelineMetrics) {
+        return restTemplate(outboundConnectionManager, readTimeoutMs, poolWaitMs,
+                new OutboundMetricsInterceptor(OutboundProvider.OPENAI, pipelineMetrics));
+    }
+
+    private RestTemplate restTemplate(PoolingHttpClientConnectionManager manager, long readTimeoutMs, long poolWaitMs,
+                                      OutboundMetricsInterceptor metricsInterceptor) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(manager)
+                .setConnectionManagerShared(true) // 풀은 outboundConnectionManager 빈이 닫음
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(metricsInterceptor);
+        return restTemplate;
+    }
+}
@@ -0,0 +1,11 @@
+package com.skku.swe_project.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 백그라운드 작업 (지역별 명소 후보 풀 갱신, 장소 보강 작업, 보강 캐시 파일 저장)
+// 작업끼리 서로 막지 않도록 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 작업 수만큼 둠
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
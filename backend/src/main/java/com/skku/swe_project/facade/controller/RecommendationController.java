@@ -5,10 +5,23 @@ import com.skku.swe_project.facade.dto.RecommendationResponse;
 import com.skku.swe_project.facade.service.DateCourseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -16,33 +29,157 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class RecommendationController {
 
+    // 스트리밍 응답 최대 유지 시간 (LLM 리포트가 길어도 끊기지 않도록 넉넉히)
+    private static final long STREAM_TIMEOUT_MS = 120_000L;
+
     private final DateCourseService dateCourseService;
 
+    // 요청마다 가상 스레드 (AsyncConfig)
+    @Qualifier("recommendationExecutor")
+    private final Executor recommendationExecutor;
+
+    /**
+     * 추천 결과를 CompletableFuture 로 반환.
+     * Tomcat 요청 스레드는 바로 반납되고, 수 초짜리 LLM/외부 API 호출 체인은 가상 스레드에서 실행된다.
+     *
+     * 재검증은 이 API 전용의 opt-in 약속이다 (표준 HTTP 캐시 동작 아님):
+     * - 응답에는 ETag 가 붙음 (FOOD 는 강한, SPOT/COURSE 는 "같은 후보 풀" 이라는 약한 ETag)
+     * - 클라이언트가 직접 If-None-Match 에 그 값을 넣어 보낸 경우에만, 결과가 그대로면 304 (본문 없음)
+     *   -> "이전에 받은 결과를 그대로 쓰라" 는 뜻. 헤더를 안 보내면 항상 200 이라 기존 클라이언트(프론트/axios)는 영향 없음
+     * - POST 라 브라우저/프록시가 알아서 보내거나 캐시하지 않으며, RFC 9110 의 non-GET 조건부 요청(412) 과는 다른 의미
+     * 이 헤더를 쓰는 클라이언트는 304 를 오류가 아닌 "변경 없음" 으로 처리해야 한다.
+     */
     @PostMapping("/recommend")
-    public ResponseEntity<RecommendationResponse> getRecommendations(@RequestBody RecommendationRequest request) {
+    public CompletableFuture<ResponseEntity<RecommendationResponse>> getRecommendations(
+            @RequestBody RecommendationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("📩 요청 도착 - Query: {}", request.getQuery());
 
         try {
             // ✅ [수정] query와 history를 둘 다 서비스로 전달합니다!
-            // (request.getHistory()가 null이면 빈 리스트를 넘기도록 처리하면 더 안전합니다)
-            RecommendationResponse response = dateCourseService.recommend(
+            return CompletableFuture
+                    .supplyAsync(() -> dateCourseService.recommend(
+                            request.getQuery(),
+                            request.getHistory(), // 리스트 전달
+                            ifNoneMatch
+                    ), recommendationExecutor)
+                    .thenApply(this::success)
+                    .exceptionally(this::failure);
+
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(failure(e));
+        }
+    }
+
+    private ResponseEntity<RecommendationResponse> success(RecommendationResponse response) {
+        if (response.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.getEtag()).build();
+        }
+
+        response.setMessage("SUCCESS");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (response.getEtag() != null) {
+            builder.eTag(response.getEtag());
+        }
+        return builder.body(response);
+    }
+
+    // 5. 에러 처리 (기존 로직 유지)
+    private ResponseEntity<RecommendationResponse> failure(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        log.error("❌ 추천 서비스 에러 발생: ", cause);
+
+        RecommendationResponse errorResponse = new RecommendationResponse();
+        errorResponse.setMessage("FAIL");
+        errorResponse.setPlaces(Collections.emptyList());
+        errorResponse.setSummary("서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+
+        return ResponseEntity.internalServerError().body(errorResponse);
+    }
+
+    /**
+     * SSE 스트리밍 버전.
+     * event: places  -> 추천 장소 리스트 (요약 LLM 호출 전에 바로 전송)
+     * event: summary -> {"delta": "..."} 요약/리포트 토큰 조각
+     * event: done    -> 최종 응답 (message + 전체 summary)
+     * event: error   -> 실패 시 안내 메시지
+     */
+    @PostMapping(value = "/recommend/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRecommendations(@RequestBody RecommendationRequest request) {
+        log.info("📩 스트리밍 요청 도착 - Query: {}", request.getQuery());
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        // 작업을 FutureTask 로 감싸서, 응답이 먼저 끝나면(타임아웃/연결 끊김) 생산 중인 가상 스레드를 인터럽트
+        // -> 진행 중인 LLM 스트림 읽기가 끊기고 OpenAI bulkhead 허가도 바로 반납됨
+        FutureTask<Void> task = new FutureTask<>(() -> runStream(request, emitter), null);
+        emitter.onTimeout(() -> {
+            log.info("⏱️ 스트리밍 응답 시간 초과 - 생산 작업 취소");
+            task.cancel(true);
+            emitter.complete();
+        });
+        emitter.onError(e -> {
+            log.info("🔌 스트리밍 응답 오류 - 생산 작업 취소: {}", e.getMessage());
+            task.cancel(true);
+        });
+        // 정상 종료 후에는 이미 끝난 작업이라 아무 일도 없음
+        emitter.onCompletion(() -> task.cancel(true));
+
+        try {
+            recommendationExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.error("❌ 스트리밍 작업 등록 실패 (executor 포화)", e);
+            sendError(emitter);
+        }
+        return emitter;
+    }
+
+    private void runStream(RecommendationRequest request, SseEmitter emitter) {
+        try {
+            RecommendationResponse response = dateCourseService.recommendStreaming(
                     request.getQuery(),
-                    request.getHistory() // 리스트 전달
+                    request.getHistory(),
+                    places -> send(emitter, "places", places),
+                    delta -> send(emitter, "summary", Map.of("delta", delta))
             );
 
-            response.setMessage("SUCCESS");
-            return ResponseEntity.ok(response);
+            send(emitter, "done", Map.of(
+                    "message", "SUCCESS",
+                    "summary", response.getSummary()));
+            emitter.complete();
+
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 -> 더 보낼 곳이 없으므로 조용히 종료
+            log.info("🔌 스트리밍 중 클라이언트 연결 종료: {}", e.getMessage());
+            emitter.completeWithError(e);
 
         } catch (Exception e) {
-            // 5. 에러 처리 (기존 로직 유지)
-            log.error("❌ 추천 서비스 에러 발생: ", e);
+            if (Thread.currentThread().isInterrupted()) {
+                // 응답이 이미 끝나서(타임아웃/연결 끊김) 취소된 작업 -> 보낼 곳이 없음
+                log.info("🔌 스트리밍 생산 작업 취소됨: {}", e.getMessage());
+                return;
+            }
+            log.error("❌ 스트리밍 추천 서비스 에러 발생: ", e);
+            sendError(emitter);
+        }
+    }
 
-            RecommendationResponse errorResponse = new RecommendationResponse();
-            errorResponse.setMessage("FAIL");
-            errorResponse.setPlaces(Collections.emptyList());
-            errorResponse.setSummary("서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            return ResponseEntity.internalServerError().body(errorResponse);
+    private void sendError(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(Map.of(
+                    "message", "FAIL",
+                    "summary", "서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해주세요.",
+                    "places", Collections.emptyList()), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (Exception ignored) {
+            emitter.complete();
         }
     }
-}
\ No newline at end of file
+}
@@ -16,4 +16,11 @@ public class IntentResultDto {
 
     // 추출된 지역 명 (예: "강남역", "홍대") - 없으면 null일 수 있음
     private String location;
+
+    // 판단 확신도 (0.0 ~ 1.0) - 로컬 분류기가 채움, LLM 응답이면 null
+    private Double confidence;
+
+    public IntentResultDto(String intent, String location) {
+        this(intent, location, null);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.skku.swe_project.facade.dto; // 패키지명은 본인 프로젝트에 맞게 수정
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.skku.swe_project.place.dto.PlaceDto;
 import lombok.*;
 
@@ -14,4 +15,10 @@ public class RecommendationResponse {
     private String message;         // 명세서: "Success message"
     private String summary;         // 명세서: "LLM generated summary"
     private List<PlaceDto> places;  // 명세서: "List of recommended places"
+
+    // 응답 본문에는 넣지 않고 ETag 헤더 / 304 판단에만 사용
+    @JsonIgnore
+    private String etag;
+    @JsonIgnore
+    private boolean notModified;
 }
\ No newline at end of file
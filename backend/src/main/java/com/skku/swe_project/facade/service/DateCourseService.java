@@ -4,15 +4,26 @@ import com.skku.swe_project.facade.dto.IntentResultDto;
 import com.skku.swe_project.facade.dto.RecommendationRequest;
 import com.skku.swe_project.facade.dto.RecommendationResponse;
 import com.skku.swe_project.food.service.FoodService;
+import com.skku.swe_project.metrics.PipelineMetrics;
+import com.skku.swe_project.metrics.RequestTrace;
 import com.skku.swe_project.place.dto.PlaceDto;
+import com.skku.swe_project.place.service.SpotCandidates;
 import com.skku.swe_project.place.service.SpotService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -22,18 +33,148 @@ public class DateCourseService {
     private final OpenAiService openAiService;
     private final SpotService spotService;
     private final FoodService foodService;
+    private final LocationGazetteer locationGazetteer;
+    private final IntentClassifier intentClassifier;
+    private final MeterRegistry meterRegistry;
+    private final PipelineMetrics pipelineMetrics;
+    private final RecommendationCache recommendationCache;
+
+    @Qualifier("recommendationExecutor")
+    private final Executor recommendationExecutor;
+
+    // 의도 분석(LLM)과 병렬로 지역 좌표/주변 장소를 미리 찾아둘지 여부
+    @Value("${recommend.speculative-lookup.enabled:true}")
+    private boolean speculativeLookupEnabled;
 
     // ✅ [변경 1] 파라미터에 'List<RecommendationRequest.Message> history' 추가
     public RecommendationResponse recommend(String query, List<RecommendationRequest.Message> history) {
+        return recommend(query, history, null);
+    }
+
+    /**
+     * ifNoneMatch 가 지금 캐시된 결과의 ETag 와 같으면 요약/선택을 건너뛰고 notModified 응답을 돌려줌.
+     * (SPOT/COURSE 는 "같은 후보 풀" 이면 일치 -> 클라이언트가 이전에 받은 5개를 그대로 쓰면 됨)
+     */
+    public RecommendationResponse recommend(String query, List<RecommendationRequest.Message> history,
+                                            String ifNoneMatch) {
+        try (RequestTrace trace = RequestTrace.start()) {
+            try {
+                PreparedRecommendation prepared = prepare(query, history, ifNoneMatch);
+                if (prepared.notModified()) {
+                    meterRegistry.counter("recommend.cache.not_modified", "intent", prepared.intent()).increment();
+                    return RecommendationResponse.builder()
+                            .etag(prepared.etag())
+                            .notModified(true)
+                            .build();
+                }
+
+                String summary = prepared.isFinal()
+                        ? prepared.fixedSummary()
+                        : summarize(prepared, null);
+
+                return RecommendationResponse.builder()
+                        .summary(summary)
+                        .places(prepared.places())
+                        .etag(cacheFood(prepared, summary))
+                        .build();
+            } finally {
+                pipelineMetrics.finish(trace, "recommend");
+            }
+        }
+    }
+
+    /**
+     * 스트리밍 버전: 장소 목록이 정해지는 즉시 onPlaces 로 넘기고,
+     * 이후 요약/리포트는 LLM 토큰이 도착하는 대로 onSummaryDelta 로 흘려보냄.
+     * 반환값은 스트림이 끝난 뒤의 최종 응답 (전체 요약 포함).
+     */
+    public RecommendationResponse recommendStreaming(String query,
+                                                     List<RecommendationRequest.Message> history,
+                                                     Consumer<List<PlaceDto>> onPlaces,
+                                                     Consumer<String> onSummaryDelta) {
+        try (RequestTrace trace = RequestTrace.start()) {
+            try {
+                PreparedRecommendation prepared = prepare(query, history, null);
+                onPlaces.accept(prepared.places());
+
+                String summary;
+                if (prepared.isFinal()) {
+                    summary = prepared.fixedSummary();
+                    onSummaryDelta.accept(summary);
+                } else {
+                    summary = summarize(prepared, onSummaryDelta);
+                }
+
+                return RecommendationResponse.builder()
+                        .summary(summary)
+                        .places(prepared.places())
+                        .etag(cacheFood(prepared, summary))
+                        .build();
+            } finally {
+                pipelineMetrics.finish(trace, "recommend/stream");
+            }
+        }
+    }
+
+    // 요약 LLM 호출 직전까지의 결과 (fixedSummary 가 있으면 LLM 호출 없이 바로 응답)
+    // foodCacheKey: 요약까지 끝나면 FOOD 응답을 저장할 캐시 key (캐시에서 꺼낸 경우/FOOD 가 아니면 null)
+    private record PreparedRecommendation(String intent, String query,
+                                          List<PlaceDto> spots, List<PlaceDto> foods,
+                                          String fixedSummary, String etag,
+                                          String foodCacheKey, boolean notModified) {
+
+        static PreparedRecommendation finalMessage(String intent, String query, String message) {
+            return new PreparedRecommendation(intent, query, Collections.emptyList(), Collections.emptyList(),
+                    message, null, null, false);
+        }
+
+        static PreparedRecommendation notModified(String intent, String query, String etag) {
+            return new PreparedRecommendation(intent, query, Collections.emptyList(), Collections.emptyList(),
+                    null, etag, null, true);
+        }
+
+        boolean isFinal() {
+            return fixedSummary != null;
+        }
+
+        List<PlaceDto> places() {
+            if ("FOOD".equals(intent)) return foods;
+
+            List<PlaceDto> allPlaces = new ArrayList<>();
+            allPlaces.addAll(foods);  // SPOT 모드에서는 비어 있고,
+            allPlaces.addAll(spots);  // COURSE/ SPOT 에서는 명소들이 들어감
+            return allPlaces;
+        }
+    }
+
+    private PreparedRecommendation prepare(String query, List<RecommendationRequest.Message> history,
+                                           String ifNoneMatch) {
 
         // ✅ [변경 2] history가 null일 경우 안전하게 빈 리스트로 처리
         if (history == null) {
             history = Collections.emptyList();
         }
 
-        // 1. 의도/위치 분석 (AI에게 이전 대화 기록(history)도 같이 전달!)
-        // ⚠️ 주의: OpenAiService의 analyzeUserQuery 메서드도 파라미터를 받도록 수정해야 빨간 줄이 안 뜹니다.
-        IntentResultDto result = openAiService.analyzeUserQuery(query, history);
+        // 0. 규칙 기반 분류기로 먼저 판단 -> 충분히 확실하면 LLM 호출 생략
+        final List<RecommendationRequest.Message> turns = history;
+        IntentResultDto local = RequestTrace.stage("intent_local", () -> intentClassifier.classify(query, turns));
+        IntentResultDto result;
+        SpeculativeLookup speculative = null;
+
+        if (intentClassifier.isConfident(local)) {
+            result = local;
+            meterRegistry.counter("recommend.intent.resolved", "source", "local").increment();
+            log.info("⚡ 로컬 분류기로 의도 판단 (LLM 생략): intent='{}', location='{}', confidence={}",
+                    local.getIntent(), local.getLocation(), local.getConfidence());
+        } else {
+            // 0-1. 질문/대화에 아는 지역명이 보이면, LLM 응답을 기다리는 동안 좌표 + 주변 장소 검색을 먼저 시작
+            speculative = startSpeculativeLookup(query, history);
+
+            // 1. 의도/위치 분석 (AI에게 이전 대화 기록(history)도 같이 전달!)
+            // ⚠️ 주의: OpenAiService의 analyzeUserQuery 메서드도 파라미터를 받도록 수정해야 빨간 줄이 안 뜹니다.
+            result = RequestTrace.stage("intent_llm", () -> openAiService.analyzeUserQuery(query, turns));
+            meterRegistry.counter("recommend.intent.resolved", "source", "llm").increment();
+        }
 
         String rawIntent = result.getIntent();
         String location = result.getLocation();
@@ -41,74 +182,161 @@ public class DateCourseService {
         String intent = (rawIntent == null || rawIntent.isBlank())
                 ? "COURSE"
                 : rawIntent.trim().toUpperCase();
+        RequestTrace.current().ifPresent(trace -> trace.setIntent(intent));
 
         log.info("💬 DateCourseService: query='{}', intent='{}', location='{}', historySize={}",
                 query, intent, location, history.size());
 
         // 2. 위치 없으면 입구 컷
         if (location == null || location.isBlank()) {
-            return RecommendationResponse.builder()
-                    .summary("데이트 코스를 짜드릴까요? \n어느 지역(예: 강남역, 홍대)에서 만나시는지 알려주세요!")
-                    .places(Collections.emptyList())
-                    .build();
+            discard(speculative);
+            return PreparedRecommendation.finalMessage(intent, query,
+                    "데이트 코스를 짜드릴까요? \n어느 지역(예: 강남역, 홍대)에서 만나시는지 알려주세요!");
         }
 
         List<PlaceDto> spots = new ArrayList<>();
         List<PlaceDto> foods = new ArrayList<>();
+        SpotCandidates spotPool = null;
+        String foodCacheKey = null;
 
         // 3. 의도별 서비스 호출 분리
 
         // 👉 SPOT: 명소만 (DB 기반)
         if ("SPOT".equals(intent)) {
-            spots = spotService.findSpots(location);
+            spotPool = lookupSpotPool(location, speculative);
         }
 
         // 👉 FOOD: 맛집만 (Kakao + Google)
         if ("FOOD".equals(intent)) {
-            foods = foodService.findRestaurants(location, query);
+            discard(speculative); // 맛집은 Kakao 키워드 검색을 쓰므로 미리 찾은 명소 후보는 버림
+
+            // (지역, 검색어) 가 같으면 질문 문장이 달라도 같은 결과 -> 응답 전체를 캐시에서 사용
+            String keyword = RequestTrace.stage("kakao_keyword", () -> foodService.buildKakaoKeyword(location, query));
+            String cacheKey = RecommendationCache.foodKey(location, keyword);
+            Optional<RecommendationCache.FoodEntry> cached = recommendationCache.getFood(cacheKey);
+            if (cached.isPresent()) {
+                RecommendationCache.FoodEntry entry = cached.get();
+                if (RecommendationCache.matches(ifNoneMatch, entry.etag())) {
+                    return PreparedRecommendation.notModified(intent, query, entry.etag());
+                }
+                return new PreparedRecommendation(intent, query, Collections.emptyList(), entry.foods(),
+                        entry.summary(), entry.etag(), null, false);
+            }
+
+            foods = RequestTrace.stage("food_search", () -> foodService.findRestaurantsByKeyword(keyword));
+            foodCacheKey = cacheKey;
         }
 
         // 👉 COURSE: "데이트 코스"는 **명소(DB)**만 사용하고,
         //    추가로 외부 맛집 검색(FoodService)은 하지 않음.
         if ("COURSE".equals(intent)) {
-            spots = spotService.findSpots(location);
+            spotPool = lookupSpotPool(location, speculative);
             // foods 는 비워둠 -> 명소 기반 코스로만 구성
         }
 
-        // 4-1. 순수 FOOD 모드: 맛집 리스트 + 맛집 전용 리포트
-        if ("FOOD".equals(intent)) {
-            if (foods.isEmpty()) {
-                return RecommendationResponse.builder()
-                        .summary("해당 지역에서 적절한 맛집을 찾지 못했어요 ㅠㅠ")
-                        .places(Collections.emptyList())
-                        .build();
+        // 3-1. SPOT / COURSE: 후보 풀이 클라이언트가 가진 것과 같으면 304, 아니면 풀에서 랜덤 5개
+        String etag = null;
+        if (spotPool != null) {
+            etag = RecommendationCache.spotEtag(intent, spotPool.version());
+            if (!spotPool.isEmpty() && RecommendationCache.matches(ifNoneMatch, etag)) {
+                return PreparedRecommendation.notModified(intent, query, etag);
             }
+            List<PlaceDto> candidates = spotPool.places();
+            spots = RequestTrace.stage("spot_pick", () -> SpotService.pickSpots(candidates));
+        }
 
-            String report = openAiService.makeFoodMarkdownReport(query, foods);
-
-            return RecommendationResponse.builder()
-                    .summary(report)
-                    .places(foods)
-                    .build();
+        // 4-1. 순수 FOOD 모드: 맛집이 없으면 바로 응답
+        if ("FOOD".equals(intent) && foods.isEmpty()) {
+            return PreparedRecommendation.finalMessage(intent, query,
+                    "해당 지역에서 적절한 맛집을 찾지 못했어요 ㅠㅠ");
         }
 
-        // 4-2. SPOT / COURSE 모드: 명소 기반 코스 요약
+        // 4-2. SPOT / COURSE 모드: 명소가 없으면 바로 응답
         if (spots.isEmpty() && foods.isEmpty()) {
-            return RecommendationResponse.builder()
-                    .summary("죄송해요, 그 지역 정보는 아직 부족하네요 ㅠㅠ")
-                    .places(Collections.emptyList())
-                    .build();
+            return PreparedRecommendation.finalMessage(intent, query,
+                    "죄송해요, 그 지역 정보는 아직 부족하네요 ㅠㅠ");
         }
 
-        String summary = openAiService.makeCourseSummary(spots, foods);
+        return new PreparedRecommendation(intent, query, spots, foods, null, etag, foodCacheKey, false);
+    }
+
+    // 지역별 명소 후보 (추측 검색이 같은 지역이면 그 결과, 아니면 SpotService -> RegionalSpotPools / 실시간 조회)
+    private SpotCandidates lookupSpotPool(String location, SpeculativeLookup speculative) {
+        return RequestTrace.stage("spot_candidates", () -> resolveCandidates(location, speculative));
+    }
+
+    // FOOD 응답을 요약까지 끝난 상태로 캐시에 저장하고 ETag 반환 (요약이 실패 안내 문구면 저장하지 않음)
+    private String cacheFood(PreparedRecommendation prepared, String summary) {
+        if (prepared.foodCacheKey() == null || OpenAiService.isFallbackReply(summary)) {
+            return prepared.etag();
+        }
+        return recommendationCache.putFood(prepared.foodCacheKey(), prepared.foods(), summary).etag();
+    }
 
-        List<PlaceDto> allPlaces = new ArrayList<>();
-        allPlaces.addAll(foods);  // SPOT 모드에서는 비어 있고,
-        allPlaces.addAll(spots);  // COURSE/ SPOT 에서는 명소들이 들어감
+    // 5. 요약 생성 (onDelta 가 있으면 스트리밍)
+    private String summarize(PreparedRecommendation prepared, Consumer<String> onDelta) {
+        return RequestTrace.stage("summary", () -> generateSummary(prepared, onDelta));
+    }
 
-        return RecommendationResponse.builder()
-                .summary(summary)
-                .places(allPlaces)
-                .build();
+    private String generateSummary(PreparedRecommendation prepared, Consumer<String> onDelta) {
+        // 5-1. 순수 FOOD 모드: 맛집 전용 리포트
+        if ("FOOD".equals(prepared.intent())) {
+            return onDelta == null
+                    ? openAiService.makeFoodMarkdownReport(prepared.query(), prepared.foods())
+                    : openAiService.streamFoodMarkdownReport(prepared.query(), prepared.foods(), onDelta);
+        }
+
+        // 5-2. SPOT / COURSE 모드: 명소 기반 코스 요약
+        return onDelta == null
+                ? openAiService.makeCourseSummary(prepared.spots(), prepared.foods())
+                : openAiService.streamCourseSummary(prepared.spots(), prepared.foods(), onDelta);
+    }
+
+    // =====================================================
+    // 추측 실행(speculative lookup)
+    // =====================================================
+
+    private record SpeculativeLookup(String location, CompletableFuture<SpotCandidates> candidates) {
+    }
+
+    private SpeculativeLookup startSpeculativeLookup(String query, List<RecommendationRequest.Message> history) {
+        if (!speculativeLookupEnabled) return null;
+
+        String guess = locationGazetteer.findLocation(query, history).orElse(null);
+        if (guess == null) return null;
+
+        try {
+            CompletableFuture<SpotCandidates> future =
+                    CompletableFuture.supplyAsync(
+                            RequestTrace.propagate(() -> spotService.findCandidates(guess)), recommendationExecutor);
+            return new SpeculativeLookup(guess, future);
+        } catch (RejectedExecutionException e) {
+            // 스레드 풀이 꽉 찼으면 그냥 기존처럼 순차 실행
+            log.warn("⚠️ 추측 검색 생략 (executor 포화): {}", guess);
+            return null;
+        }
+    }
+
+    // LLM 이 확정한 지역이 미리 추측한 지역과 같으면 그 결과를 쓰고, 아니면 버리고 새로 검색
+    private SpotCandidates resolveCandidates(String location, SpeculativeLookup speculative) {
+        if (speculative != null && KakaoMapService.normalizeLocation(location)
+                .equals(KakaoMapService.normalizeLocation(speculative.location()))) {
+            try {
+                SpotCandidates candidates = speculative.candidates().join();
+                log.info("⚡ 추측 검색 적중: location='{}', 후보 {}개", location, candidates.places().size());
+                return candidates;
+            } catch (Exception e) {
+                log.warn("⚠️ 추측 검색 실패, 다시 검색합니다: {}", location, e);
+            }
+        } else {
+            discard(speculative);
+        }
+        return spotService.findCandidates(location);
+    }
+
+    private void discard(SpeculativeLookup speculative) {
+        if (speculative != null) {
+            speculative.candidates().cancel(false);
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.skku.swe_project.facade.service;
+
+import java.time.Duration;
+
+/**
+ * OpenAiService 의 GPT 호출 종류별 응답 캐시 TTL 기본값.
+ * openai.cache.{key}.ttl-minutes 로 덮어쓸 수 있음.
+ */
+public enum GptCallType {
+    INTENT("intent", Duration.ofMinutes(10)),
+    KAKAO_KEYWORD("kakao-keyword", Duration.ofHours(24)),
+    REVIEW_SUMMARY("review-summary", Duration.ofDays(7)),
+    COURSE_SUMMARY("course-summary", Duration.ofHours(1)),
+    FOOD_REPORT("food-report", Duration.ofMinutes(30));
+
+    private final String key;
+    private final Duration defaultTtl;
+
+    GptCallType(String key, Duration defaultTtl) {
+        this.key = key;
+        this.defaultTtl = defaultTtl;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public Duration defaultTtl() {
+        return defaultTtl;
+    }
+}
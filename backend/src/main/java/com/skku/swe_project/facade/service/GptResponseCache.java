@@ -0,0 +1,126 @@
+package com.skku.swe_project.facade.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * callGpt 앞단의 응답 캐시.
+ * key = 호출 종류 + 모델 + (정규화한 프롬프트의 SHA-256 또는 장소 id 집합), TTL 은 호출 종류별로 다름.
+ * hit/miss 와 절약한 토큰 수(추정)를 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+public class GptResponseCache {
+
+    private final boolean enabled;
+    private final Map<GptCallType, Long> ttlNanos = new EnumMap<>(GptCallType.class);
+    private final Cache<String, CachedReply> cache;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GptResponseCache(Environment env, MeterRegistry meterRegistry) {
+        this(env, meterRegistry, Ticker.systemTicker());
+    }
+
+    // 테스트에서 TTL 을 시간 경과 없이 확인할 수 있도록 ticker 를 받는 생성자
+    GptResponseCache(Environment env, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = env.getProperty("openai.cache.enabled", Boolean.class, true);
+        for (GptCallType type : GptCallType.values()) {
+            long minutes = env.getProperty("openai.cache." + type.key() + ".ttl-minutes",
+                    Long.class, type.defaultTtl().toMinutes());
+            ttlNanos.put(type, minutes * 60_000_000_000L);
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(env.getProperty("openai.cache.max-size", Long.class, 5000L))
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, CachedReply>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedReply value, long currentTime) {
+                        return ttlNanos.get(value.type());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedReply value, long currentTime, long currentDuration) {
+                        return ttlNanos.get(value.type());
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedReply value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("openai.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("GPT 응답 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("openai.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    public Optional<String> get(GptCallType type, String key) {
+        if (!enabled || key == null) return Optional.empty();
+
+        CachedReply reply = cache.getIfPresent(key);
+        if (reply == null) {
+            meterRegistry.counter("openai.cache.requests", "type", type.key(), "result", "miss").increment();
+            return Optional.empty();
+        }
+
+        meterRegistry.counter("openai.cache.requests", "type", type.key(), "result", "hit").increment();
+        meterRegistry.counter("openai.cache.tokens.saved", "type", type.key()).increment(reply.tokens());
+        return Optional.of(reply.content());
+    }
+
+    /** 실패 안내 문구(OpenAiService.isFallbackReply)는 저장하지 않음 - 잠깐의 장애가 TTL 동안 굳지 않도록 */
+    public void put(GptCallType type, String key, String content, int tokens) {
+        if (!enabled || key == null || OpenAiService.isFallbackReply(content)) return;
+        cache.put(key, new CachedReply(type, content, tokens));
+    }
+
+    /** 프롬프트 본문 기준 key (공백 차이는 무시) */
+    public String promptKey(GptCallType type, String model, String prompt) {
+        String normalized = prompt.strip().replaceAll("\\s+", " ");
+        return type.key() + ":" + model + ":" + sha256(normalized);
+    }
+
+    /** 장소 id 집합 기준 key (순서 무관). id 가 하나라도 없으면 null -> 프롬프트 key 를 쓰도록 */
+    public String placeSetKey(GptCallType type, String model, Collection<Long> placeIds) {
+        if (placeIds.isEmpty() || placeIds.stream().anyMatch(id -> id == null)) return null;
+        String ids = placeIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        return type.key() + ":" + model + ":places:" + ids;
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedReply(GptCallType type, String content, int tokens) {
+    }
+}
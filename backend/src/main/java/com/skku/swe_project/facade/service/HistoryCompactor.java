@@ -0,0 +1,170 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 의도 분석 프롬프트에 넣을 대화 기록을 토큰 예산 안으로 줄임.
+ * - 전체가 history.compaction.token-budget 이하면 그대로
+ * - 넘으면 최근 history.compaction.keep-recent 개 발화만 원문으로 두고,
+ *   그 이전 발화는 "언급된 지역 + 관심사(의도 키워드)" 한 줄 요약으로 접음
+ * - 그래도 넘으면 오래된 원문부터 요약 쪽으로 옮기고, 마지막 한 발화는 잘라서라도 남김
+ * 토큰 수는 TokenEstimator 추정치 기준.
+ */
+@Component
+public class HistoryCompactor {
+
+    private static final String HEADER = "[이전 대화 내용]\n";
+    private static final int MAX_DIGEST_LOCATIONS = 3;
+
+    private final LocationGazetteer locationGazetteer;
+    private final boolean enabled;
+    private final int tokenBudget;
+    private final int keepRecent;
+
+    private final DistributionSummary rawTokens;
+    private final DistributionSummary compactedTokens;
+    private final MeterRegistry meterRegistry;
+
+    public HistoryCompactor(Environment env, LocationGazetteer locationGazetteer, MeterRegistry meterRegistry) {
+        this.locationGazetteer = locationGazetteer;
+        this.enabled = env.getProperty("history.compaction.enabled", Boolean.class, true);
+        this.tokenBudget = env.getProperty("history.compaction.token-budget", Integer.class, 300);
+        this.keepRecent = env.getProperty("history.compaction.keep-recent", Integer.class, 4);
+
+        this.meterRegistry = meterRegistry;
+        this.rawTokens = historyTokens(meterRegistry, "raw");
+        this.compactedTokens = historyTokens(meterRegistry, "compacted");
+    }
+
+    /** 프롬프트에 그대로 넣을 대화 기록 블록 (기록이 없으면 빈 문자열) */
+    public String render(List<RecommendationRequest.Message> history) {
+        if (history == null || history.isEmpty()) return "";
+
+        String raw = renderVerbatim(history);
+        int rawCount = TokenEstimator.estimate(raw);
+        rawTokens.record(rawCount);
+
+        if (!enabled || rawCount <= tokenBudget) {
+            compactedTokens.record(rawCount);
+            return raw;
+        }
+
+        int split = Math.max(0, history.size() - Math.max(1, keepRecent));
+        String block = compose(history, split);
+
+        // 최근 원문만으로도 예산을 넘으면 오래된 것부터 요약 쪽으로 (마지막 발화는 남김)
+        while (TokenEstimator.estimate(block) > tokenBudget && split < history.size() - 1) {
+            split++;
+            block = compose(history, split);
+        }
+        if (TokenEstimator.estimate(block) > tokenBudget) {
+            block = truncate(block, tokenBudget);
+        }
+
+        compactedTokens.record(TokenEstimator.estimate(block));
+        meterRegistry.counter("openai.prompt.history.compacted").increment();
+        return block;
+    }
+
+    // =====================================================
+    // 조립
+    // =====================================================
+
+    private String renderVerbatim(List<RecommendationRequest.Message> history) {
+        StringBuilder sb = new StringBuilder(HEADER);
+        for (RecommendationRequest.Message msg : history) {
+            appendLine(sb, msg);
+        }
+        return sb.append("\n").toString();
+    }
+
+    // history[0, split) 는 요약 한 줄, history[split, end) 는 원문
+    private String compose(List<RecommendationRequest.Message> history, int split) {
+        StringBuilder sb = new StringBuilder(HEADER);
+        if (split > 0) {
+            sb.append("- (이전 대화 요약) ").append(digest(history.subList(0, split))).append("\n");
+        }
+        for (RecommendationRequest.Message msg : history.subList(split, history.size())) {
+            appendLine(sb, msg);
+        }
+        return sb.append("\n").toString();
+    }
+
+    private static void appendLine(StringBuilder sb, RecommendationRequest.Message msg) {
+        // role이 "user"면 사용자, "assistant"면 AI
+        String speaker = "user".equals(msg.getRole()) ? "사용자" : "AI";
+        sb.append("- ").append(speaker).append(": ").append(msg.getContent()).append("\n");
+    }
+
+    /**
+     * 오래된 발화 -> "언급된 지역: 홍대, 강남역 / 관심: FOOD(파스타, 카페), SPOT".
+     * 지역은 최근에 언급된 순으로 최대 3개, 관심사는 사용자 발화에서만 뽑음 (AI 답변의 추천 문구는 제외).
+     */
+    String digest(List<RecommendationRequest.Message> older) {
+        Set<String> locations = new LinkedHashSet<>();
+        for (int i = older.size() - 1; i >= 0 && locations.size() < MAX_DIGEST_LOCATIONS; i--) {
+            Optional<String> location = locationGazetteer.findLocation(older.get(i).getContent());
+            location.ifPresent(locations::add);
+        }
+
+        Map<String, Set<String>> interests = new LinkedHashMap<>();
+        for (RecommendationRequest.Message msg : older) {
+            if (!"user".equals(msg.getRole()) || msg.getContent() == null) continue;
+            collect(interests, "FOOD", msg.getContent(), IntentVocabulary.MEAL, IntentVocabulary.CAFE, IntentVocabulary.BAR);
+            collect(interests, "SPOT", msg.getContent(), IntentVocabulary.SPOT);
+            collect(interests, "COURSE", msg.getContent(), IntentVocabulary.COURSE);
+        }
+
+        List<String> parts = new ArrayList<>();
+        if (!locations.isEmpty()) {
+            parts.add("언급된 지역: " + String.join(", ", locations));
+        }
+        if (!interests.isEmpty()) {
+            List<String> labels = new ArrayList<>();
+            interests.forEach((intent, keywords) -> labels.add(
+                    keywords.isEmpty() ? intent : intent + "(" + String.join(", ", keywords) + ")"));
+            parts.add("관심: " + String.join(", ", labels));
+        }
+        return parts.isEmpty() ? "특별한 지역/관심사 언급 없음" : String.join(" / ", parts);
+    }
+
+    private static void collect(Map<String, Set<String>> interests, String intent, String text, String[]... vocabularies) {
+        for (String[] vocabulary : vocabularies) {
+            for (String keyword : vocabulary) {
+                // 한 글자 키워드("바")는 다른 단어에 섞이기 쉬워서 요약에 넣지 않음
+                if (keyword.length() > 1 && text.contains(keyword)) {
+                    interests.computeIfAbsent(intent, k -> new LinkedHashSet<>()).add(keyword);
+                }
+            }
+        }
+    }
+
+    // 예산에 맞을 때까지 뒤에서부터 자름 (한글은 글자당 약 1토큰이라 글자 수로 대략 맞춘 뒤 확인)
+    private static String truncate(String block, int budget) {
+        String cut = block;
+        while (TokenEstimator.estimate(cut) > budget && cut.length() > HEADER.length()) {
+            int over = TokenEstimator.estimate(cut) - budget;
+            cut = cut.substring(0, Math.max(HEADER.length(), cut.length() - Math.max(over, 1)));
+        }
+        return cut + "…\n\n";
+    }
+
+    private static DistributionSummary historyTokens(MeterRegistry meterRegistry, String stage) {
+        return DistributionSummary.builder("openai.prompt.history.tokens")
+                .description("의도 분석 프롬프트의 대화 기록 토큰 수 (추정치, 압축 전/후)")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.facade.dto.IntentResultDto;
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * LLM 호출 전에 돌려보는 규칙 기반 의도 분류기.
+ * "강남역 맛집" 처럼 의도와 지역이 뻔한 질문은 여기서 끝내고,
+ * 확신도가 threshold 미만이면 OpenAiService.analyzeUserQuery 로 넘긴다.
+ */
+@Component
+public class IntentClassifier {
+
+    private final LocationGazetteer locationGazetteer;
+    private final boolean enabled;
+    private final double threshold;
+
+    // 설정: intent.local-classifier.enabled, intent.local-classifier.threshold
+    public IntentClassifier(Environment env, LocationGazetteer locationGazetteer) {
+        this.locationGazetteer = locationGazetteer;
+        this.enabled = env.getProperty("intent.local-classifier.enabled", Boolean.class, true);
+        this.threshold = env.getProperty("intent.local-classifier.threshold", Double.class, 0.85);
+    }
+
+    public IntentResultDto classify(String query, List<RecommendationRequest.Message> history) {
+        String text = (query != null) ? query : "";
+
+        // 1. 의도 점수
+        boolean food = IntentVocabulary.containsAny(text, IntentVocabulary.CAFE)
+                || IntentVocabulary.containsAny(text, IntentVocabulary.MEAL)
+                || containsStrong(text, IntentVocabulary.BAR);
+        boolean weakFood = !food && IntentVocabulary.containsAny(text, IntentVocabulary.BAR); // "바" 처럼 한 글자만 걸린 경우
+        boolean spot = IntentVocabulary.containsAny(text, IntentVocabulary.SPOT);
+        boolean course = IntentVocabulary.containsAny(text, IntentVocabulary.COURSE);
+
+        String intent;
+        double intentScore;
+        if (course || (food && spot)) {
+            intent = "COURSE";
+            intentScore = (course && !food && !spot) ? 0.6 : 0.3; // "맛집 말고 명소" 같은 섞인 문장은 LLM 에게
+        } else if (food) {
+            intent = "FOOD";
+            intentScore = 0.6;
+        } else if (spot) {
+            intent = "SPOT";
+            intentScore = 0.6;
+        } else {
+            intent = "COURSE"; // 분류하기 애매하면 COURSE (프롬프트 규칙과 동일)
+            intentScore = weakFood ? 0.2 : 0.1;
+        }
+
+        // 2. 지역 점수 (현재 질문에 있으면 확실, 이전 대화에서 가져온 거면 애매)
+        Optional<String> fromQuery = locationGazetteer.findLocation(text);
+        String location;
+        double locationScore;
+        if (fromQuery.isPresent()) {
+            location = fromQuery.get();
+            locationScore = 0.35;
+        } else {
+            location = locationGazetteer.findLocation(text, history).orElse(null);
+            locationScore = (location != null) ? 0.2 : 0.0;
+        }
+
+        double confidence = Math.min(1.0, intentScore + locationScore);
+        return new IntentResultDto(intent, location, confidence);
+    }
+
+    /** 이 결과만으로 LLM 호출을 건너뛰어도 되는지 */
+    public boolean isConfident(IntentResultDto result) {
+        return enabled
+                && result.getConfidence() != null
+                && result.getConfidence() >= threshold
+                && result.getLocation() != null;
+    }
+
+    // 한 글자 키워드("바")는 다른 단어 안에 섞여 있기 쉬워서 확실한 신호로 치지 않음
+    private boolean containsStrong(String text, String... keywords) {
+        for (String k : keywords) {
+            if (k.length() > 1 && text.contains(k)) return true;
+        }
+        return false;
+    }
+}
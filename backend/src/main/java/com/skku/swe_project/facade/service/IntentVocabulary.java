@@ -0,0 +1,39 @@
+package com.skku.swe_project.facade.service;
+
+/**
+ * FOOD / SPOT / COURSE 판단에 쓰는 키워드 모음.
+ * FoodService 의 Kakao 검색어 fallback 과 IntentClassifier 가 같은 단어장을 공유한다.
+ */
+public final class IntentVocabulary {
+
+    // FOOD - 카페류
+    public static final String[] CAFE = {"카페", "커피", "디저트", "베이커리", "브런치"};
+
+    // FOOD - 술집류
+    public static final String[] BAR = {"술집", "주점", "호프", "바", "이자카야", "포차", "와인"};
+
+    // FOOD - 식사류
+    public static final String[] MEAL = {
+            "맛집", "식당", "밥집", "먹을", "먹고", "저녁", "점심", "아침", "레스토랑",
+            "파스타", "스시", "초밥", "고기", "삼겹살", "한식", "양식", "일식", "중식", "라멘", "피자", "버거"
+    };
+
+    // SPOT
+    public static final String[] SPOT = {
+            "명소", "놀거리", "놀 곳", "갈만한", "산책", "관광지", "구경", "전시", "미술관", "박물관", "공원", "야경", "데이트 장소"
+    };
+
+    // COURSE
+    public static final String[] COURSE = {"데이트 코스", "코스", "일정", "동선"};
+
+    private IntentVocabulary() {
+    }
+
+    public static boolean containsAny(String text, String... keywords) {
+        if (text == null) return false;
+        for (String k : keywords) {
+            if (text.contains(k)) return true;
+        }
+        return false;
+    }
+}
@@ -1,10 +1,23 @@
 package com.skku.swe_project.facade.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.skku.swe_project.outbound.OutboundProvider;
+import com.skku.swe_project.outbound.ProviderBusyException;
+import com.skku.swe_project.outbound.ProviderGuard;
+import com.skku.swe_project.outbound.ProviderUnavailableException;
+import com.skku.swe_project.outbound.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -12,49 +25,152 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoMapService {
 
-    @Value("${kakao.api.key}")
-    private String kakaoApiKey;
+    private static final String KEYWORD_SEARCH_PATH = "/v2/local/search/keyword.json?query=";
+
+    private final String kakaoApiKey;
+    // 부하 테스트 등에서 stub 서버로 바꿔 끼울 수 있도록 설정으로 분리
+    private final String kakaoBaseUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 공용 커넥션 풀을 쓰는 Kakao 전용 클라이언트 (HttpClientConfig)
+    private final RestTemplate restTemplate;
+    private final ProviderGuard providerGuard;
+    private final SingleFlight singleFlight;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private static final String KAKAO_API_URL = "https://dapi.kakao.com/v2/local/search/keyword.json?query=";
+    // key: 정규화된 지역명, value: 좌표 (Optional.empty() = "검색 결과 없음" negative 엔트리)
+    private final Cache<String, Optional<CoordinateDto>> geocodeCache;
 
-    public CoordinateDto searchCoordinate(String locationName) {
-        try {
-            // 1. 헤더 설정 (인증키)
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+    /**
+     * 좌표 캐시 설정 (지역명 -> 좌표는 거의 바뀌지 않으므로 TTL을 길게)
+     * - kakao.geocode-cache.max-size, kakao.geocode-cache.ttl-minutes
+     * - kakao.geocode-cache.negative-ttl-seconds : 검색 결과 없음은 짧게만 기억
+     * hit/miss/eviction 은 kakao.geocode 이름의 cache.* 메트릭으로 노출
+     */
+    @Autowired
+    public KakaoMapService(Environment env,
+                           @Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+                           ProviderGuard providerGuard,
+                           SingleFlight singleFlight,
+                           MeterRegistry meterRegistry) {
+        this(env, restTemplate, providerGuard, singleFlight, meterRegistry, Ticker.systemTicker());
+    }
 
-            // 2. 요청 보내기
-            String url = KAKAO_API_URL + locationName;
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+    // 테스트에서 시간을 직접 돌릴 수 있도록 ticker 를 받는 생성자
+    KakaoMapService(Environment env, RestTemplate restTemplate, ProviderGuard providerGuard,
+                    SingleFlight singleFlight, MeterRegistry meterRegistry, Ticker ticker) {
+        this.kakaoApiKey = env.getProperty("kakao.api.key", "");
+        this.kakaoBaseUrl = env.getProperty("kakao.api.base-url", "https://dapi.kakao.com");
+        this.restTemplate = restTemplate;
+        this.providerGuard = providerGuard;
+        this.singleFlight = singleFlight;
 
-            // 3. JSON 파싱
-            JsonNode root = objectMapper.readTree(response.getBody());
-            JsonNode documents = root.path("documents");
+        long positiveTtlNanos = Duration.ofMinutes(
+                env.getProperty("kakao.geocode-cache.ttl-minutes", Long.class, 1440L)).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(
+                env.getProperty("kakao.geocode-cache.negative-ttl-seconds", Long.class, 60L)).toNanos();
 
-            if (documents.size() > 0) {
-                JsonNode firstResult = documents.get(0);
-                double x = firstResult.get("x").asDouble(); // 경도 (Longitude)
-                double y = firstResult.get("y").asDouble(); // 위도 (Latitude)
+        this.geocodeCache = Caffeine.newBuilder()
+                .maximumSize(env.getProperty("kakao.geocode-cache.max-size", Long.class, 1000L))
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, Optional<CoordinateDto>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<CoordinateDto> value, long currentTime) {
+                        return value.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+                    }
 
-                log.info("📍 카카오 검색 성공: {} -> {}, {}", locationName, y, x);
-                return new CoordinateDto(y, x);
-            }
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<CoordinateDto> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
 
+                    @Override
+                    public long expireAfterRead(String key, Optional<CoordinateDto> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, geocodeCache, "kakao.geocode");
+    }
+
+    public CoordinateDto searchCoordinate(String locationName) {
+        String key = normalizeLocation(locationName);
+        if (key.isEmpty()) return null;
+
+        Optional<CoordinateDto> cached = geocodeCache.getIfPresent(key);
+        if (cached != null) return cached.orElse(null);
+
+        // Caffeine 의 get(key, loader) 는 로딩(HTTP 호출) 동안 ConcurrentHashMap 락을 잡고 있어서
+        // 가상 스레드가 carrier 스레드에 고정(pinning)됨 -> 락 밖에서 single-flight 로 한 번만 호출
+        try {
+            return singleFlight.execute(OutboundProvider.KAKAO, "geocode", key, () -> {
+                Optional<CoordinateDto> fetched = fetchCoordinate(key);
+                geocodeCache.put(key, fetched);
+                return fetched;
+            }).orElse(null);
+        } catch (ProviderUnavailableException | ProviderBusyException e) {
+            // 우리 쪽 한도/회로 차단 - 캐시에 남기지 않음 (잠깐 막힌 걸 "없는 지역" 으로 기억하지 않도록)
+            log.info("📍 카카오 검색 생략: {} ({})", locationName, e.getMessage());
+            return null;
         } catch (Exception e) {
+            // 5xx / 네트워크 오류 - 역시 캐시에 남기지 않음
             log.error("❌ 카카오맵 검색 실패: {}", locationName, e);
+            return null;
         }
+    }
+
+    // 검색 결과가 있으면 좌표, 결과가 없으면 empty (negative 캐시 대상). 호출 실패는 예외로 던짐
+    private Optional<CoordinateDto> fetchCoordinate(String locationName) {
+        // 1. 헤더 설정 (인증키)
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        // 2. 요청 보내기
+        String url = kakaoBaseUrl + KEYWORD_SEARCH_PATH + locationName;
+        ResponseEntity<String> response = providerGuard.call(OutboundProvider.KAKAO,
+                () -> restTemplate.exchange(url, HttpMethod.GET, entity, String.class));
+
+        // 3. JSON 파싱
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카카오 응답 파싱 실패", e);
+        }
+        JsonNode documents = root.path("documents");
+
+        if (documents.size() > 0) {
+            JsonNode firstResult = documents.get(0);
+            double x = firstResult.get("x").asDouble(); // 경도 (Longitude)
+            double y = firstResult.get("y").asDouble(); // 위도 (Latitude)
+
+            log.info("📍 카카오 검색 성공: {} -> {}, {}", locationName, y, x);
+            return Optional.of(new CoordinateDto(y, x));
+        }
+
+        // 결과 없음 -> negative 엔트리로 잠깐 캐싱
+        log.info("📍 카카오 검색 결과 없음: {}", locationName);
+        return Optional.empty();
+    }
 
-        // 검색 실패 시 null 리턴
-        return null;
+    // "강남역 " / " 강남역", "강남  역" / "강남 역" 처럼 앞뒤 공백, 연속 공백, 유니코드 조합형, 대소문자만 다른 입력을 같은 key 로 묶음
+    // (단어 사이 공백 자체는 지우지 않음: "강남 역" 과 "강남역" 은 다른 key)
+    public static String normalizeLocation(String locationName) {
+        if (locationName == null) return "";
+        String normalized = Normalizer.normalize(locationName, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 
     // 내부에서만 쓸 간단한 DTO
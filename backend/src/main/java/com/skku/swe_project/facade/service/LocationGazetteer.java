@@ -0,0 +1,115 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 자주 등장하는 지역명 사전.
+ * 사용자의 원문 질문/대화 기록에서 LLM 없이 지역 후보를 뽑아낼 때 사용.
+ * 단순 substring 이 아니라 지역명 앞뒤가 단어 경계일 때만 인정한다 ("수유실" -> 수유, "교대근무" -> 교대 방지).
+ */
+@Component
+public class LocationGazetteer {
+
+    // 긴 이름을 먼저 매칭해야 "강남역"이 "강남"으로 잘리지 않음
+    private static final List<String> KNOWN_AREAS = List.of(
+            // 서울 주요 역/상권
+            "강남역", "강남", "신논현", "역삼", "선릉", "삼성역", "코엑스", "압구정로데오", "압구정", "청담", "신사동", "가로수길",
+            "홍대입구", "홍대", "합정", "상수", "망원", "연남동", "연희동", "신촌", "이화여대",
+            "이태원", "한남동", "경리단길", "해방촌", "용산", "삼각지",
+            "성수동", "성수", "서울숲", "건대입구", "건대", "뚝섬",
+            "잠실", "석촌호수", "송리단길", "롯데월드",
+            "명동", "을지로", "종로", "익선동", "인사동", "삼청동", "북촌", "서촌", "광화문", "서울시청", "동대문", "대학로", "혜화",
+            "여의도", "영등포", "문래", "목동", "신도림",
+            "노량진", "사당", "서울대입구", "샤로수길", "신림", "교대", "서초", "양재", "반포", "고속터미널",
+            "왕십리", "성신여대", "수유", "노원",
+            // 수도권/광역시
+            "판교", "분당", "수원", "인천", "송도", "일산",
+            "부산", "해운대", "광안리", "서면역", "전포", "대구", "동성로", "대전", "광주", "전주", "제주", "강릉", "경주"
+    ).stream().sorted(Comparator.comparingInt(String::length).reversed()).toList();
+
+    // 지역명 바로 뒤에 붙어도 같은 지역으로 보는 말 (접미사/조사). 예: 강남역, 망원동, 홍대에서, 합정쪽
+    private static final List<String> ATTACHABLE_SUFFIXES = List.of(
+            "역", "동", "입구", "거리", "근처", "부근", "주변", "쪽", "앞",
+            "에서", "으로", "로", "에", "은", "는", "이", "가", "을", "를", "의", "도", "랑", "까지"
+    );
+
+    // 띄어쓰기 없이 "강남역맛집", "홍대카페" 처럼 붙여 쓰는 의도 키워드 (한 글자 "바" 는 "바로" 등과 헷갈려서 제외)
+    private static final List<String> ATTACHABLE_KEYWORDS = Stream.of(
+                    IntentVocabulary.CAFE, IntentVocabulary.BAR, IntentVocabulary.MEAL,
+                    IntentVocabulary.SPOT, IntentVocabulary.COURSE)
+            .flatMap(Arrays::stream)
+            .filter(k -> k.length() > 1)
+            .toList();
+
+    /** 사전에 등록된 지역명 전체 (미리 후보 풀을 만들어 둘 인기 지역 목록으로도 사용) */
+    public List<String> knownAreas() {
+        return KNOWN_AREAS;
+    }
+
+    /**
+     * 문장에서 가장 뒤에 언급된 지역명 (같은 위치면 더 긴 이름 우선).
+     * 앞은 문장 시작/공백/문장부호, 뒤는 문장 끝/공백/문장부호/접미사/의도 키워드여야 인정.
+     */
+    public Optional<String> findLocation(String text) {
+        if (text == null || text.isBlank()) return Optional.empty();
+
+        String best = null;
+        int bestIndex = -1;
+        for (String area : KNOWN_AREAS) {
+            int idx = lastBoundedIndexOf(text, area);
+            if (idx > bestIndex) {
+                best = area;
+                bestIndex = idx;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    // 경계 조건을 만족하는 마지막 위치 (없으면 -1)
+    static int lastBoundedIndexOf(String text, String area) {
+        for (int idx = text.lastIndexOf(area); idx >= 0; idx = text.lastIndexOf(area, idx - 1)) {
+            if (isBoundaryBefore(text, idx) && isBoundaryAfter(text, idx + area.length())) return idx;
+            if (idx == 0) break;
+        }
+        return -1;
+    }
+
+    private static boolean isBoundaryBefore(String text, int idx) {
+        return idx == 0 || !Character.isLetterOrDigit(text.charAt(idx - 1));
+    }
+
+    private static boolean isBoundaryAfter(String text, int end) {
+        if (end >= text.length() || !Character.isLetterOrDigit(text.charAt(end))) return true;
+        for (String suffix : ATTACHABLE_SUFFIXES) {
+            if (text.startsWith(suffix, end)) return true;
+        }
+        for (String keyword : ATTACHABLE_KEYWORDS) {
+            if (text.startsWith(keyword, end)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 질문 -> 가장 최근 사용자 발화 순으로 지역명을 찾음
+     * (analyzeUserQuery 프롬프트의 "현재 질문에 없으면 이전 대화에서 가장 최근 지역" 규칙과 동일).
+     */
+    public Optional<String> findLocation(String query, List<RecommendationRequest.Message> history) {
+        Optional<String> fromQuery = findLocation(query);
+        if (fromQuery.isPresent() || history == null) return fromQuery;
+
+        for (int i = history.size() - 1; i >= 0; i--) {
+            RecommendationRequest.Message msg = history.get(i);
+            if (!"user".equals(msg.getRole())) continue;
+            Optional<String> found = findLocation(msg.getContent());
+            if (found.isPresent()) return found;
+        }
+        return Optional.empty();
+    }
+}
@@ -1,17 +1,29 @@
 package com.skku.swe_project.facade.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skku.swe_project.facade.dto.IntentResultDto;
 import com.skku.swe_project.facade.dto.RecommendationRequest; // ✅ [추가] Message 클래스 사용
+import com.skku.swe_project.outbound.OutboundProvider;
+import com.skku.swe_project.outbound.ProviderGuard;
+import com.skku.swe_project.outbound.SingleFlight;
 import com.skku.swe_project.place.dto.PlaceDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -27,27 +39,60 @@ public class OpenAiService {
     @Value("${openai.api.model}")
     private String model;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 제공자별 rate limit + bulkhead + 429 재시도 + 회로 차단
+    private final ProviderGuard providerGuard;
+    private final GptResponseCache gptResponseCache;
+    private final SingleFlight singleFlight;
+    // 의도 분석 프롬프트의 대화 기록을 토큰 예산 안으로 (오래된 발화는 요약)
+    private final HistoryCompactor historyCompactor;
+
+    // 공용 커넥션 풀을 쓰는 OpenAI 전용 클라이언트 (HttpClientConfig)
+    @Qualifier("openAiRestTemplate")
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // GPT 호출 실패 시 content 대신 돌려주는 안내 문구
+    static final String ERROR_REPLY = "AI 응답 오류";
+    static final String BUSY_REPLY = "죄송해요, AI가 잠시 휴식 중이에요 ㅠㅠ";
+
+    /**
+     * 프롬프트 조립/응답 파싱만 쓰는 인스턴스 (테스트, JMH 벤치마크용). GPT 호출은 하지 않음.
+     * 생성자 인자가 늘어나도 호출 측은 이 메서드만 보면 되도록 한 곳에 모아둠.
+     */
+    static OpenAiService forPrompts(HistoryCompactor historyCompactor) {
+        return new OpenAiService(null, null, null, historyCompactor, null);
+    }
+
+    /** GPT 가 만든 답이 아니라 실패 안내 문구인지 (응답 캐시에 넣지 않기 위함) */
+    public static boolean isFallbackReply(String content) {
+        return content == null || content.isBlank() || ERROR_REPLY.equals(content) || BUSY_REPLY.equals(content);
+    }
+
     // 1. 사용자 의도 파악 (FOOD / SPOT / COURSE + location)
     // ✅ [수정] history 파라미터 추가
     public IntentResultDto analyzeUserQuery(String userQuery, List<RecommendationRequest.Message> history) {
 
-        // 1-1. 대화 기록(history)을 프롬프트용 문자열로 변환
-        StringBuilder conversationHistory = new StringBuilder();
-        if (history != null && !history.isEmpty()) {
-            conversationHistory.append("[이전 대화 내용]\n");
-            for (RecommendationRequest.Message msg : history) {
-                // role이 "user"면 사용자, "assistant"면 AI
-                String speaker = "user".equals(msg.getRole()) ? "사용자" : "AI";
-                conversationHistory.append(String.format("- %s: %s\n", speaker, msg.getContent()));
-            }
-            conversationHistory.append("\n");
+        // 1-3. GPT 호출
+        String jsonResponse = callGpt(GptCallType.INTENT, buildIntentPrompt(userQuery, history));
+
+        try {
+            // JSON 포맷팅 제거 (Markdown 코드블록 제거)
+            jsonResponse = stripCodeFence(jsonResponse);
+
+            return objectMapper.readValue(jsonResponse, IntentResultDto.class);
+        } catch (Exception e) {
+            log.error("JSON 파싱 실패: {}", jsonResponse, e);
+            return new IntentResultDto("COURSE", null);
         }
+    }
+
+    // 1-1 ~ 1-2. 의도 분석 프롬프트 (JMH 벤치마크에서 직접 호출하므로 package-private)
+    String buildIntentPrompt(String userQuery, List<RecommendationRequest.Message> history) {
+        // 1-1. 대화 기록(history)을 프롬프트용 문자열로 변환 (토큰 예산을 넘으면 오래된 발화는 요약)
+        String conversationHistory = historyCompactor.render(history);
 
         // 1-2. 프롬프트 구성 (이전 대화를 참고해서 의도와 장소를 파악하도록 지시)
-        String prompt = """
+        return """
                 너는 데이트 장소 추천 전문가야. 사용자의 질문을 분석해서 JSON 형식으로 답해줘.
                 
                 %s
@@ -66,31 +111,33 @@ public class OpenAiService {
                                 
                 [응답 형식(JSON 만 출력)]:
                 {"intent": "...", "location": "..."}
-                """.formatted(conversationHistory.toString(), userQuery);
-
-        // 1-3. GPT 호출
-        String jsonResponse = callGpt(prompt);
-
-        try {
-            // JSON 포맷팅 제거 (Markdown 코드블록 제거)
-            if (jsonResponse.contains("```json")) {
-                jsonResponse = jsonResponse.replace("```json", "")
-                        .replace("```", "")
-                        .trim();
-            } else if (jsonResponse.contains("```")) {
-                jsonResponse = jsonResponse.replace("```", "").trim();
-            }
-
-            return objectMapper.readValue(jsonResponse, IntentResultDto.class);
-        } catch (Exception e) {
-            log.error("JSON 파싱 실패: {}", jsonResponse, e);
-            return new IntentResultDto("COURSE", null);
-        }
+                """.formatted(conversationHistory, userQuery);
     }
 
     // 2. 데이트 코스 요약 멘트 (명소 + 맛집 공용)
     // (이 메서드는 크게 수정할 필요 없으나, 원하면 history를 추가해서 문맥을 더 살릴 수 있음)
     public String makeCourseSummary(List<PlaceDto> spots, List<PlaceDto> foods) {
+        String prompt = buildCourseSummaryPrompt(spots, foods);
+        return callGpt(GptCallType.COURSE_SUMMARY, courseSummaryKey(spots, foods, prompt), prompt);
+    }
+
+    // 2-1. 코스 요약 스트리밍 버전 (토큰 단위로 onDelta 호출)
+    public String streamCourseSummary(List<PlaceDto> spots, List<PlaceDto> foods, Consumer<String> onDelta) {
+        String prompt = buildCourseSummaryPrompt(spots, foods);
+        return callGptStream(GptCallType.COURSE_SUMMARY, courseSummaryKey(spots, foods, prompt), prompt, onDelta);
+    }
+
+    // 같은 장소 조합이면 순서와 상관없이 같은 요약을 재사용 (id 없는 장소가 섞이면 프롬프트 기준)
+    private String courseSummaryKey(List<PlaceDto> spots, List<PlaceDto> foods, String prompt) {
+        List<Long> ids = new ArrayList<>();
+        spots.forEach(p -> ids.add(p.getId()));
+        foods.forEach(p -> ids.add(p.getId()));
+
+        String key = gptResponseCache.placeSetKey(GptCallType.COURSE_SUMMARY, model, ids);
+        return key != null ? key : gptResponseCache.promptKey(GptCallType.COURSE_SUMMARY, model, prompt);
+    }
+
+    String buildCourseSummaryPrompt(List<PlaceDto> spots, List<PlaceDto> foods) {
         StringBuilder info = new StringBuilder();
 
         if (!spots.isEmpty()) {
@@ -111,20 +158,28 @@ public class OpenAiService {
             }
         }
 
-        String prompt = """
+        return """
                 너는 친절한 데이트 코치야. 아래 장소 목록을 보고 자연스러운 데이트 코스 추천 멘트를 작성해줘.
                 가게/명소 이름과 특징을 언급하면서 3~4문장 정도로 설레게 말해줘. 하트 이모티콘도 적절히 사용해줘.
                                 
                 [장소 목록]
                 %s
                 """.formatted(info.toString());
-
-        return callGpt(prompt);
     }
 
     // 3. 맛집 전용 Markdown 리포트 (FOOD 모드)
     public String makeFoodMarkdownReport(String userQuery, List<PlaceDto> foods) {
+        return callGpt(GptCallType.FOOD_REPORT, buildFoodReportPrompt(userQuery, foods));
+    }
+
+    // 3-1. 맛집 리포트 스트리밍 버전
+    public String streamFoodMarkdownReport(String userQuery, List<PlaceDto> foods, Consumer<String> onDelta) {
+        String prompt = buildFoodReportPrompt(userQuery, foods);
+        return callGptStream(GptCallType.FOOD_REPORT,
+                gptResponseCache.promptKey(GptCallType.FOOD_REPORT, model, prompt), prompt, onDelta);
+    }
 
+    String buildFoodReportPrompt(String userQuery, List<PlaceDto> foods) {
         StringBuilder context = new StringBuilder();
         int idx = 1;
         for (PlaceDto p : foods) {
@@ -138,7 +193,7 @@ public class OpenAiService {
             ));
         }
 
-        String prompt = """
+        return """
                 너는 '썸플레이스(Someplace)'의 수다쟁이 맛집 에디터야.
                                 
                 [사용자 요청]
@@ -163,68 +218,297 @@ public class OpenAiService {
                 - 각 식당당 코멘트는 3~4줄 정도로 적당히.
                 - 말투는 친근하고 TMT 느낌으로 오바하는 개쩌는 말투로.
                 """.formatted(userQuery, context.toString());
-
-        return callGpt(prompt);
     }
     
 
     // 4. 리뷰 요약
     public String summarizeReviews(String placeName, List<String> reviews) {
         if (reviews == null || reviews.isEmpty()) return null;
+        return callGpt(GptCallType.REVIEW_SUMMARY, buildReviewSummaryPrompt(placeName, reviews));
+    }
 
+    String buildReviewSummaryPrompt(String placeName, List<String> reviews) {
         StringBuilder reviewBlock = new StringBuilder();
         int idx = 1;
         for (String r : reviews) {
             reviewBlock.append(idx++).append(". ").append(r).append("\n\n");
         }
 
-        String prompt = """
+        return """
                 너는 한국 맛집 리뷰를 요약하는 에디터야.
                 이 식당의 특징을 1~2문장으로 한국어로 요약해줘.
                 
                 [식당 이름]: %s
                 [리뷰 모음]: %s
                 """.formatted(placeName, reviewBlock.toString());
+    }
 
-        return callGpt(prompt);
+    /** 리뷰 배치 요약의 입력 한 건 (장소 이름 + 리뷰 원문) */
+    public record ReviewSet(String placeName, List<String> reviews) {
     }
 
-    // GPT 공통 호출
-    private String callGpt(String prompt) {
+    /**
+     * 4-1. 여러 장소의 리뷰를 GPT 한 번으로 요약.
+     * 결과는 입력과 같은 순서의 리스트이고, 응답에서 빠진 자리는 null (-> 호출 측이 장소별 summarizeReviews 로 대체).
+     * GPT 호출 자체가 실패하면 요약할 자리마다 실패 안내 문구가 들어감 (isFallbackReply 로 구분, 다시 부르지 말 것).
+     * 장소별 요약은 summarizeReviews 와 같은 캐시 key 로 저장하므로 단건/배치가 서로 캐시를 나눠 쓴다.
+     */
+    public List<String> summarizeReviewsBatch(List<ReviewSet> places) {
+        String[] summaries = new String[places.size()];
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < places.size(); i++) {
+            ReviewSet set = places.get(i);
+            if (set.reviews() == null || set.reviews().isEmpty()) continue;
+
+            Optional<String> cached = gptResponseCache.get(GptCallType.REVIEW_SUMMARY, reviewSummaryKey(set));
+            if (cached.isPresent()) {
+                summaries[i] = cached.get();
+            } else {
+                pending.add(i);
+            }
+        }
+
+        if (pending.size() == 1) {
+            ReviewSet set = places.get(pending.get(0));
+            summaries[pending.get(0)] = summarizeReviews(set.placeName(), set.reviews());
+
+        } else if (pending.size() > 1) {
+            String prompt = buildReviewBatchPrompt(places, pending);
+            String batchKey = gptResponseCache.promptKey(GptCallType.REVIEW_SUMMARY, model, prompt);
+            GptReply reply = singleFlight.execute(OutboundProvider.OPENAI, "review-summary-batch", batchKey,
+                    () -> requestGpt(prompt));
+
+            if (!reply.ok()) {
+                // 제공자가 안 되는 상황 - 장소별로 다시 불러도 같은 결과라 실패 문구 그대로 돌려줌
+                pending.forEach(index -> summaries[index] = reply.content());
+                return Arrays.asList(summaries);
+            }
+
+            Map<Integer, String> parsed = parseReviewBatch(reply.content());
+            int tokensPerPlace = reply.tokens() / pending.size();
+            for (int n = 0; n < pending.size(); n++) {
+                String summary = parsed.get(n + 1);
+                if (summary == null || summary.isBlank()) continue;
+
+                int index = pending.get(n);
+                summaries[index] = summary;
+                gptResponseCache.put(GptCallType.REVIEW_SUMMARY, reviewSummaryKey(places.get(index)),
+                        summary, tokensPerPlace);
+            }
+            if (parsed.size() < pending.size()) {
+                log.warn("⚠️ 리뷰 배치 요약: {}곳 중 {}곳만 파싱됨", pending.size(), parsed.size());
+            }
+        }
+
+        return Arrays.asList(summaries);
+    }
+
+    // 배치 프롬프트: id 는 pending 안에서의 순번 (1부터)
+    String buildReviewBatchPrompt(List<ReviewSet> places, List<Integer> pending) {
+        StringBuilder block = new StringBuilder();
+        for (int n = 0; n < pending.size(); n++) {
+            ReviewSet set = places.get(pending.get(n));
+            block.append("[id: ").append(n + 1).append("] ").append(set.placeName()).append("\n");
+            for (String r : set.reviews()) {
+                block.append("- ").append(r.replace("\n", " ")).append("\n");
+            }
+            block.append("\n");
+        }
+
+        return """
+                너는 한국 맛집 리뷰를 요약하는 에디터야.
+                아래 식당들 각각의 특징을 1~2문장으로 한국어로 요약해줘.
+                
+                [식당별 리뷰 모음]
+                %s
+                [응답 형식(JSON 만 출력, 모든 id 포함)]:
+                {"summaries": [{"id": 1, "summary": "..."}]}
+                """.formatted(block.toString());
+    }
+
+    // {"summaries": [{"id": 1, "summary": "..."}]} -> id -> 요약 (형식이 깨졌으면 빈 map)
+    Map<Integer, String> parseReviewBatch(String content) {
+        Map<Integer, String> result = new HashMap<>();
+        try {
+            JsonNode summaries = objectMapper.readTree(stripCodeFence(content)).path("summaries");
+            for (JsonNode item : summaries) {
+                String summary = item.path("summary").asText("").trim();
+                if (item.path("id").canConvertToInt() && !summary.isEmpty()) {
+                    result.put(item.path("id").asInt(), summary);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("리뷰 배치 요약 JSON 파싱 실패: {}", content);
+        }
+        return result;
+    }
+
+    private String reviewSummaryKey(ReviewSet set) {
+        return gptResponseCache.promptKey(GptCallType.REVIEW_SUMMARY, model,
+                buildReviewSummaryPrompt(set.placeName(), set.reviews()));
+    }
+
+    // Markdown 코드블록(```json ... ```) 제거
+    private static String stripCodeFence(String content) {
+        if (content == null) return "";
+        return content.replace("```json", "").replace("```", "").trim();
+    }
+
+    // GPT 공통 호출 (프롬프트 기준 캐시)
+    private String callGpt(GptCallType type, String prompt) {
+        return callGpt(type, gptResponseCache.promptKey(type, model, prompt), prompt);
+    }
+
+    private String callGpt(GptCallType type, String cacheKey, String prompt) {
+        Optional<String> cached = gptResponseCache.get(type, cacheKey);
+        if (cached.isPresent()) return cached.get();
+
+        // 캐시 miss 인 같은 프롬프트가 동시에 들어오면 GPT 호출은 한 번만 (첫 호출 결과를 나눠 씀)
+        GptReply reply = singleFlight.execute(OutboundProvider.OPENAI, type.key(), cacheKey,
+                () -> requestGpt(prompt));
+        if (reply.ok()) {
+            gptResponseCache.put(type, cacheKey, reply.content(), reply.tokens());
+        }
+        return reply.content();
+    }
+
+    // 실패 시에는 안내 문구를 content 로 담고 ok=false (캐시하지 않음)
+    private record GptReply(String content, int tokens, boolean ok) {
+        static GptReply failed(String message) {
+            return new GptReply(message, 0, false);
+        }
+    }
+
+    private GptReply requestGpt(String prompt) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(apiKey);
 
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", model);
-            requestBody.put("messages", List.of(
-                    Map.of("role", "system", "content", "You are a helpful assistant."),
-                    Map.of("role", "user", "content", prompt)
-            ));
-            requestBody.put("temperature", 0.7);
+            Map<String, Object> requestBody = buildRequestBody(prompt);
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, entity, Map.class);
+            ResponseEntity<Map> response = providerGuard.call(OutboundProvider.OPENAI,
+                    () -> restTemplate.postForEntity(apiUrl, entity, Map.class));
 
             Map<String, Object> body = response.getBody();
-            if (body == null) return "AI 응답 오류";
+            if (body == null) return GptReply.failed(ERROR_REPLY);
 
             @SuppressWarnings("unchecked")
             List<Map<String, Object>> choices = (List<Map<String, Object>>) body.get("choices");
-            if (choices == null || choices.isEmpty()) return "AI 응답 오류";
+            if (choices == null || choices.isEmpty()) return GptReply.failed(ERROR_REPLY);
 
             @SuppressWarnings("unchecked")
             Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-            return (String) message.get("content");
+            String content = (String) message.get("content");
+
+            // usage.total_tokens 가 있으면 그걸, 없으면 추정치를 "절약 토큰" 계산에 사용
+            @SuppressWarnings("unchecked")
+            Map<String, Object> usage = (Map<String, Object>) body.get("usage");
+            int tokens = (usage != null && usage.get("total_tokens") instanceof Number n)
+                    ? n.intValue()
+                    : TokenEstimator.estimate(prompt) + TokenEstimator.estimate(content);
+
+            return new GptReply(content, tokens, content != null);
 
         } catch (Exception e) {
             log.error("GPT 호출 에러", e);
-            return "죄송해요, AI가 잠시 휴식 중이에요 ㅠㅠ";
+            return GptReply.failed(BUSY_REPLY);
+        }
+    }
+
+    // GPT 스트리밍 호출 (stream=true, SSE 의 "data: {...}" 줄마다 delta.content 를 onDelta 로 전달)
+    private String callGptStream(GptCallType type, String cacheKey, String prompt, Consumer<String> onDelta) {
+        // 캐시에 있으면 한 번에 흘려보냄
+        Optional<String> cached = gptResponseCache.get(type, cacheKey);
+        if (cached.isPresent()) {
+            onDelta.accept(cached.get());
+            return cached.get();
+        }
+
+        StringBuilder full = new StringBuilder();
+        // onDelta 가 던졌다면 = 클라이언트(SSE) 쪽이 끊긴 것. GPT 실패와 구분해서 처리
+        AtomicBoolean clientGone = new AtomicBoolean();
+        Consumer<String> sink = delta -> {
+            try {
+                onDelta.accept(delta);
+            } catch (RuntimeException e) {
+                clientGone.set(true);
+                throw e;
+            }
+        };
+        try {
+            Map<String, Object> requestBody = buildRequestBody(prompt);
+            requestBody.put("stream", true);
+            byte[] payload = objectMapper.writeValueAsBytes(requestBody);
+
+            providerGuard.call(OutboundProvider.OPENAI, () -> restTemplate.execute(apiUrl, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        request.getHeaders().setBearerAuth(apiKey);
+                        request.getBody().write(payload);
+                    },
+                    response -> readStream(response, full, sink)));
+
+            String content = full.toString();
+            if (!content.isEmpty()) {
+                gptResponseCache.put(type, cacheKey, content,
+                        TokenEstimator.estimate(prompt) + TokenEstimator.estimate(content));
+            }
+            return content;
+
+        } catch (Exception e) {
+            // 인터럽트 = 컨트롤러가 SSE 타임아웃/연결 끊김으로 생산 작업을 취소한 것
+            if (clientGone.get() || Thread.currentThread().isInterrupted()) {
+                // 받을 사람이 없으니 더 보낼 것도, 캐시할 것도 없음 (중간까지의 응답은 캐시하지 않음)
+                log.info("🔌 GPT 스트리밍 중단 - 클라이언트 연결 종료 ({}자 전송)", full.length());
+                return full.toString();
+            }
+            log.error("GPT 스트리밍 호출 에러", e);
+            // 이미 일부를 흘려보냈다면 거기까지만 사용
+            if (full.length() > 0) return full.toString();
+
+            String fallback = BUSY_REPLY;
+            onDelta.accept(fallback);
+            return fallback;
         }
     }
 
+    private Void readStream(ClientHttpResponse response, StringBuilder full, Consumer<String> onDelta)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) continue;
+
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) break;
+
+            JsonNode content = objectMapper.readTree(data)
+                    .path("choices").path(0).path("delta").path("content");
+            if (content.isTextual() && !content.asText().isEmpty()) {
+                full.append(content.asText());
+                onDelta.accept(content.asText());
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Object> buildRequestBody(String prompt) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("messages", List.of(
+                Map.of("role", "system", "content", "You are a helpful assistant."),
+                Map.of("role", "user", "content", prompt)
+        ));
+        requestBody.put("temperature", 0.7);
+        return requestBody;
+    }
+
     public String generateKakaoSearchKeyword(String location, String userQuery) {
     String locLine = (location != null && !location.isBlank())
             ? "location: " + location
@@ -253,7 +537,7 @@ public class OpenAiService {
             출력:
             """.formatted(locLine, userQuery);
 
-    String out = callGpt(prompt);
+    String out = callGpt(GptCallType.KAKAO_KEYWORD, prompt);
     if (out == null) return null;
 
     // 혹시라도 코드블록 오면 제거
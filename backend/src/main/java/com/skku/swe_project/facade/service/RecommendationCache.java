@@ -0,0 +1,143 @@
+package com.skku.swe_project.facade.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skku.swe_project.place.dto.PlaceDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * /api/recommend 응답 캐시. 원문 질문이 아니라 "해석된 결과"를 key 로 쓴다.
+ * - FOOD : (정규화한 지역, 정규화한 Kakao 검색어) -> 보강된 맛집 목록 + 리포트 전체 (강한 ETag)
+ * SPOT/COURSE 후보는 여기 두지 않고 RegionalSpotPools 한 곳에만 캐시한다.
+ * 이 클래스는 그 후보의 version 으로 약한 ETag 를 만들고(spotEtag), If-None-Match 비교(matches)만 맡는다.
+ * 설정: recommend.cache.enabled, recommend.cache.max-size, recommend.cache.food.ttl-minutes
+ */
+@Component
+public class RecommendationCache {
+
+    public enum Kind {
+        FOOD;
+
+        String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    /** FOOD 응답 전체 */
+    public record FoodEntry(List<PlaceDto> foods, String summary, String etag) {
+    }
+
+    private final boolean enabled;
+    private final Cache<String, FoodEntry> cache;
+    private final MeterRegistry meterRegistry;
+
+    public RecommendationCache(Environment env, MeterRegistry meterRegistry) {
+        this.enabled = env.getProperty("recommend.cache.enabled", Boolean.class, true);
+
+        // 맛집은 Google 보강 + 리포트까지 비싸고 잘 안 바뀜
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(env.getProperty("recommend.cache.max-size", Long.class, 2000L))
+                .expireAfterWrite(Duration.ofMinutes(env.getProperty("recommend.cache.food.ttl-minutes", Long.class, 60L)))
+                .recordStats()
+                .build();
+
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("recommend.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    // =====================================================
+    // FOOD
+    // =====================================================
+
+    public static String foodKey(String location, String keyword) {
+        return Kind.FOOD.key() + ":" + KakaoMapService.normalizeLocation(location) + ":" + normalizeKeyword(keyword);
+    }
+
+    public Optional<FoodEntry> getFood(String key) {
+        if (!enabled) return Optional.empty();
+        FoodEntry entry = cache.getIfPresent(key);
+        record(Kind.FOOD, entry != null);
+        return Optional.ofNullable(entry);
+    }
+
+    public FoodEntry putFood(String key, List<PlaceDto> foods, String summary) {
+        FoodEntry entry = new FoodEntry(List.copyOf(foods), summary, etag("FOOD", contentHash(foods, summary), false));
+        if (enabled && !foods.isEmpty()) cache.put(key, entry);
+        return entry;
+    }
+
+    // =====================================================
+    // SPOT / COURSE
+    // =====================================================
+
+    // 같은 후보 풀이어도 SPOT / COURSE 응답 형태가 다르므로 intent 를 섞음
+    // version 은 RegionalSpotPools 가 풀을 만들 때 계산해 둔 값 (SpotCandidates.version)
+    public static String spotEtag(String intent, String version) {
+        return etag(intent, version, true);
+    }
+
+    // =====================================================
+    // ETag
+    // =====================================================
+
+    /** If-None-Match 값(여러 개일 수 있음)에 etag 가 들어 있으면 true */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) return false;
+        String target = opaque(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || opaque(tag).equals(target));
+    }
+
+    // FOOD 는 응답 본문(장소 + 리포트) 그대로의 해시라 강한 ETag.
+    // SPOT/COURSE 는 매번 랜덤으로 뽑으므로 약한(W/) ETag: "같은 후보 풀에서 뽑은 응답"이라는 의미
+    private static String etag(String intent, String version, boolean weak) {
+        String tag = "\"" + intent.toLowerCase() + "-" + version + "\"";
+        return weak ? "W/" + tag : tag;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /** 장소 목록(+ 요약)의 내용 해시. FOOD ETag 와 명소 후보 version 에 공용 */
+    public static String contentHash(List<PlaceDto> places, String summary) {
+        String content = places.stream()
+                .map(p -> p.getId() + "|" + p.getName() + "|" + p.getAddress() + "|" + p.getRating()
+                        + "|" + p.getReviewSummary() + "|" + p.getImageUrls())
+                .collect(Collectors.joining("\n"))
+                + "\n" + (summary != null ? summary : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // "파스타 강남역" / "강남역  파스타" 같은 검색어를 같은 key 로 (단어 순서 무시)
+    static String normalizeKeyword(String keyword) {
+        String normalized = KakaoMapService.normalizeLocation(keyword);
+        if (normalized.isEmpty()) return normalized;
+        return Arrays.stream(normalized.split(" ")).sorted().collect(Collectors.joining(" "));
+    }
+
+    private void record(Kind kind, boolean hit) {
+        meterRegistry.counter("recommend.cache.requests",
+                "kind", kind.key(), "result", hit ? "hit" : "miss").increment();
+    }
+}
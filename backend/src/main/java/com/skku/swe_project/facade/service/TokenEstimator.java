@@ -0,0 +1,23 @@
+package com.skku.swe_project.facade.service;
+
+/**
+ * 토크나이저 없이 대략적인 토큰 수를 추정.
+ * 영문/숫자는 4글자당 1토큰, 한글 등 비ASCII 문자는 글자당 약 1토큰으로 계산 (통계/예산용 추정치).
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) return 0;
+
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) ascii++;
+            else other++;
+        }
+        return (ascii + 3) / 4 + other;
+    }
+}
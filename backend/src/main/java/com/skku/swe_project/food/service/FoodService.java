@@ -1,9 +1,15 @@
 package com.skku.swe_project.food.service;
 
+import com.skku.swe_project.facade.service.IntentVocabulary;
 import com.skku.swe_project.facade.service.OpenAiService; // ✅ [추가]
+import com.skku.swe_project.metrics.RequestTrace;
+import com.skku.swe_project.outbound.OutboundProvider;
+import com.skku.swe_project.outbound.ProviderGuard;
+import com.skku.swe_project.outbound.SingleFlight;
 import com.skku.swe_project.place.dto.PlaceDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -19,12 +25,21 @@ public class FoodService {
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${kakao.api.base-url:https://dapi.kakao.com}")
+    private String kakaoBaseUrl;
+
+    // 공용 커넥션 풀을 쓰는 Kakao 전용 클라이언트 (HttpClientConfig)
+    @Qualifier("kakaoRestTemplate")
+    private final RestTemplate restTemplate;
     private final GooglePlacesService googlePlacesService;
 
     // ✅ [추가] OpenAI로 “검색 키워드” 정규화(일반화)
     private final OpenAiService openAiService;
 
+    // 같은 keyword 로 동시에 들어온 검색은 Kakao 호출 한 번으로 합침
+    private final SingleFlight singleFlight;
+    private final ProviderGuard providerGuard;
+
     /**
      * Kakao Local + Google Places 평점 정보를 이용해
      * 상위 5개 장소 리스트를 반환 (업종은 originalQuery 기반)
@@ -33,7 +48,7 @@ public class FoodService {
                                           String originalQuery) {
 
         // ✅ 업종/요리/테마를 반영한 "Kakao 검색용" keyword 생성
-        String keyword = buildKakaoKeyword(location, originalQuery);
+        String keyword = RequestTrace.stage("kakao_keyword", () -> buildKakaoKeyword(location, originalQuery));
 
         if (keyword == null || keyword.isBlank()) {
             log.warn("🍜 FoodService: 검색 키워드 생성 실패. location='{}', originalQuery='{}'",
@@ -41,10 +56,21 @@ public class FoodService {
             return Collections.emptyList();
         }
 
-        log.info("🍜 FoodService: Kakao Local 검색 시작. keyword='{}', location='{}'",
-                keyword, location);
+        return findRestaurantsByKeyword(keyword);
+    }
 
-        String url = "https://dapi.kakao.com/v2/local/search/keyword.json"
+    /**
+     * 이미 만들어둔 Kakao 검색어로 검색 + Google 보강 + Top5
+     * (DateCourseService 가 검색어를 응답 캐시 key 로 쓰기 위해 먼저 만들어서 넘김)
+     */
+    public List<PlaceDto> findRestaurantsByKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        log.info("🍜 FoodService: Kakao Local 검색 시작. keyword='{}'", keyword);
+
+        String url = kakaoBaseUrl + "/v2/local/search/keyword.json"
                 + "?query={query}&size={size}&sort={sort}";
 
         Map<String, Object> uriVars = new HashMap<>();
@@ -61,13 +87,15 @@ public class FoodService {
         Map<String, Object> body;
 
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class,
-                    uriVars
-            );
+            ResponseEntity<Map> response = RequestTrace.stage("kakao_search",
+                    () -> singleFlight.execute(OutboundProvider.KAKAO, "keyword_search", keyword,
+                            () -> providerGuard.call(OutboundProvider.KAKAO, () -> restTemplate.exchange(
+                                    url,
+                                    HttpMethod.GET,
+                                    entity,
+                                    Map.class,
+                                    uriVars
+                            ))));
 
             log.info("🍜 FoodService: Kakao Local 응답 status={}", response.getStatusCode());
             body = response.getBody();
@@ -107,7 +135,8 @@ public class FoodService {
         }
 
         // 2차: Google Places 평점 보강 + 정렬
-        List<PlaceDto> enriched = googlePlacesService.enrichAndSortByRating(kakaoPlaces);
+        List<PlaceDto> enriched = RequestTrace.stage("google_enrichment",
+                () -> googlePlacesService.enrichAndSortByRating(kakaoPlaces));
 
         if (enriched.isEmpty()) {
             return Collections.emptyList();
@@ -121,7 +150,7 @@ public class FoodService {
     // =====================================================
     // ✅ [핵심 수정] OpenAI로 “Kakao 검색용 키워드”를 뽑아서 일반화
     // =====================================================
-    private String buildKakaoKeyword(String location, String originalQuery) {
+    public String buildKakaoKeyword(String location, String originalQuery) {
         String query = (originalQuery != null) ? originalQuery.trim() : "";
         String loc = (location != null) ? location.trim() : "";
 
@@ -141,9 +170,9 @@ public class FoodService {
 
         // 2) fallback(기존 규칙기반) - OpenAI 실패 시만 사용
         String type;
-        if (containsAny(query, "카페", "커피", "디저트", "베이커리", "브런치")) {
+        if (IntentVocabulary.containsAny(query, IntentVocabulary.CAFE)) {
             type = "카페";
-        } else if (containsAny(query, "술집", "주점", "호프", "바", "이자카야", "포차", "와인")) {
+        } else if (IntentVocabulary.containsAny(query, IntentVocabulary.BAR)) {
             type = "술집";
         } else {
             type = "맛집";
@@ -154,18 +183,11 @@ public class FoodService {
         return null;
     }
 
-    private boolean containsAny(String text, String... keywords) {
-        if (text == null) return false;
-        for (String k : keywords) {
-            if (text.contains(k)) return true;
-        }
-        return false;
-    }
-
     /**
      * Kakao Local document 하나를 PlaceDto로 변환
+     * (JMH 벤치마크에서 직접 호출하므로 package-private)
      */
-    private PlaceDto convertKakaoDocToPlaceDto(Map<String, Object> doc) {
+    static PlaceDto convertKakaoDocToPlaceDto(Map<String, Object> doc) {
         try {
             String name = (String) doc.getOrDefault("place_name", "");
             String roadAddress = (String) doc.getOrDefault("road_address_name", "");
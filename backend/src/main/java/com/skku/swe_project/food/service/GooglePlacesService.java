@@ -1,9 +1,17 @@
 package com.skku.swe_project.food.service;
 
 import com.skku.swe_project.facade.service.OpenAiService;
+import com.skku.swe_project.metrics.RequestTrace;
+import com.skku.swe_project.outbound.OutboundProvider;
+import com.skku.swe_project.outbound.ProviderBusyException;
+import com.skku.swe_project.outbound.ProviderGuard;
+import com.skku.swe_project.outbound.ProviderUnavailableException;
+import com.skku.swe_project.outbound.SingleFlight;
+import com.skku.swe_project.photo.service.PhotoSigner;
 import com.skku.swe_project.place.dto.PlaceDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -12,6 +20,13 @@ import org.springframework.web.client.RestTemplate;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -21,8 +36,33 @@ public class GooglePlacesService {
     @Value("${google.api.key}")
     private String googleApiKey;
 
+    // 부하 테스트 등에서 stub 서버로 바꿔 끼울 수 있도록 설정으로 분리
+    @Value("${google.api.base-url:https://maps.googleapis.com}")
+    private String googleBaseUrl;
+
+    // 사진 프록시(/api/photos) 앞에 붙일 백엔드 주소. 비우면 상대 경로
+    @Value("${photo.public-base-url:}")
+    private String photoBaseUrl;
+
+    // 한 요청에서 보강(1단계 + 2단계)에 쓸 수 있는 최대 시간. 넘으면 보강 안 된 값으로 응답
+    @Value("${google.enrichment.deadline-ms:6000}")
+    private long enrichmentDeadlineMs;
+
     private final OpenAiService openAiService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final PlaceEnrichmentCache enrichmentCache;
+    // 제공자별 rate limit + bulkhead + 429 재시도 + 회로 차단
+    private final ProviderGuard providerGuard;
+    private final SingleFlight singleFlight;
+    // 사진 프록시가 우리가 내려준 ref 만 받도록 서명
+    private final PhotoSigner photoSigner;
+
+    // 보강 호출 fan-out + stale 엔트리 백그라운드 갱신용
+    @Qualifier("enrichmentExecutor")
+    private final Executor enrichmentExecutor;
+
+    // 공용 커넥션 풀을 쓰는 Google 전용 클라이언트 (HttpClientConfig)
+    @Qualifier("googleRestTemplate")
+    private final RestTemplate restTemplate;
 
     public List<PlaceDto> enrichAndSortByRating(List<PlaceDto> places) {
 
@@ -35,10 +75,12 @@ public class GooglePlacesService {
             return places;
         }
 
-        // 1단계: rating / reviewCount만 보강
-        List<PlaceDto> rated = places.parallelStream()
-                .map(this::enrichRatingOnly)
-                .toList();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enrichmentDeadlineMs);
+
+        // 1단계: rating / reviewCount만 보강 (전부 동시에)
+        List<PlaceDto> rated = awaitAll(
+                places.stream().map(p -> supplyAsync(() -> enrichRatingOnly(p), deadline)).toList(),
+                places, deadline);
 
         // 2단계: 평점 내림차순 정렬
         List<PlaceDto> sorted = new ArrayList<>(rated);
@@ -46,172 +88,417 @@ public class GooglePlacesService {
                 b.getRating() != null ? b.getRating() : 0.0,
                 a.getRating() != null ? a.getRating() : 0.0));
 
-        // 3단계: 상위 5개에 대해서만 리뷰 + 사진 + AI 요약 적용
+        // 3단계: 상위 5개에 대해서만 리뷰 + 사진 (역시 동시에)
         int topN = Math.min(5, sorted.size());
+        List<TopPlace> top = sorted.subList(0, topN).stream().map(TopPlace::unchanged).toList();
+        List<TopPlace> detailed = awaitAll(
+                top.stream().map(t -> supplyAsync(() -> loadTopPlaceDetails(t.place()), deadline)).toList(),
+                top, deadline);
+
+        // 4단계: AI 리뷰 요약은 GPT 한 번으로 묶어서 (남은 deadline 안에서)
+        List<PlaceDto> summarized = awaitAll(
+                List.of(supplyAsync(() -> summarizeAndStore(detailed))),
+                List.of(detailed.stream().map(this::applyLoaded).toList()), deadline).get(0);
         for (int i = 0; i < topN; i++) {
-            sorted.set(i, enrichTopPlaceWithReviewsAndPhotos(sorted.get(i)));
+            sorted.set(i, summarized.get(i));
         }
 
         return sorted;
     }
 
-    private PlaceDto enrichRatingOnly(PlaceDto place) {
-        try {
-            String query = place.getName() + " " +
-                    Optional.ofNullable(place.getAddress()).orElse("");
-
-            String tsUrl = "https://maps.googleapis.com/maps/api/place/textsearch/json"
-                    + "?query={query}&key={key}";
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(RequestTrace.propagate(task), enrichmentExecutor);
+    }
 
-            ResponseEntity<Map> tsResp =
-                    restTemplate.getForEntity(tsUrl, Map.class, query, googleApiKey);
-            Map<String, Object> body = tsResp.getBody();
-            if (body == null) return place;
+    // deadline 이 지나면 task 안의 Google 호출은 새로 시도하거나 재시도 대기하지 않음 (ProviderGuard.withDeadline)
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> task, long deadlineNanos) {
+        return supplyAsync(ProviderGuard.withDeadline(deadlineNanos, task));
+    }
 
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> results =
-                    (List<Map<String, Object>>) body.get("results");
+    // deadline 까지 기다린 뒤, 끝난 것은 결과를 쓰고 못 끝낸 것은 원래 값(fallback)으로 대체
+    // (CompletableFuture.cancel 은 실행 중인 작업을 멈추지 못함. 못 끝낸 작업은 ProviderGuard deadline 에 걸려 곧 끝남)
+    private <T> List<T> awaitAll(List<CompletableFuture<T>> futures,
+                                 List<T> fallbacks,
+                                 long deadlineNanos) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️ Google 보강 deadline 초과 - 끝나지 않은 장소는 보강 없이 응답합니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 개별 실패는 아래에서 fallback 처리
+        }
 
-            if (results == null || results.isEmpty()) return place;
+        List<T> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<T> f = futures.get(i);
+            if (f.isDone() && !f.isCompletedExceptionally()) {
+                results.add(f.join());
+            } else {
+                results.add(fallbacks.get(i));
+            }
+        }
+        return results;
+    }
 
-            Map<String, Object> best = results.get(0);
-            String placeId = (String) best.get("place_id");
-            if (placeId == null) return place;
+    private PlaceDto enrichRatingOnly(PlaceDto place) {
+        String key = PlaceEnrichmentCache.keyOf(place.getName(), place.getAddress());
 
-            String detailsUrl = "https://maps.googleapis.com/maps/api/place/details/json"
-                    + "?place_id={id}&fields=rating,user_ratings_total&key={key}";
+        PlaceEnrichmentCache.Entry cached = enrichmentCache.get(key);
+        if (cached != null) {
+            refreshIfStale(key, place, cached);
+            return applyRating(place, cached);
+        }
 
-            ResponseEntity<Map> dResp =
-                    restTemplate.getForEntity(detailsUrl, Map.class, placeId, googleApiKey);
-            Map<String, Object> dBody = dResp.getBody();
-            if (dBody == null) return place;
+        try {
+            String placeId = findPlaceId(place);
+            if (placeId == null) return place;
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> result = (Map<String, Object>) dBody.get("result");
+            Map<String, Object> result = fetchDetails(placeId, "rating,user_ratings_total");
             if (result == null) return place;
 
-            Double rating = result.get("rating") != null
-                    ? ((Number) result.get("rating")).doubleValue()
-                    : place.getRating();
-
-            return PlaceDto.builder()
-                    .id(place.getId())
-                    .name(place.getName())
-                    .address(place.getAddress())
-                    .latitude(place.getLatitude())
-                    .longitude(place.getLongitude())
-                    .category(place.getCategory())
-                    .rating(rating)
-                    // **평점 붙이지 않음**
-                    .reviewSummary("")
-                    .imageUrls(place.getImageUrls())
+            PlaceEnrichmentCache.Entry entry = PlaceEnrichmentCache.Entry.builder()
+                    .placeId(placeId)
+                    .rating(readRating(result, place.getRating()))
+                    .detailed(false)
+                    .fetchedAt(System.currentTimeMillis())
                     .build();
+            enrichmentCache.put(key, entry);
+
+            return applyRating(place, entry);
 
         } catch (Exception e) {
-            log.warn("rating only enrich 실패: {}", place.getName(), e);
+            logEnrichFailure("rating only enrich", place, e);
             return place;
         }
     }
 
-    private PlaceDto enrichTopPlaceWithReviewsAndPhotos(PlaceDto place) {
+    /**
+     * 상위 장소 하나의 보강 상태.
+     * entry == null 이면 보강 실패 (원래 값 그대로), needsSummary 면 아직 AI 요약 전이라 캐시에도 넣기 전.
+     */
+    private record TopPlace(PlaceDto place, String key, PlaceEnrichmentCache.Entry entry, boolean needsSummary) {
+
+        static TopPlace unchanged(PlaceDto place) {
+            return new TopPlace(place, null, null, false);
+        }
+    }
+
+    private PlaceDto applyLoaded(TopPlace t) {
+        return t.entry() != null ? applyDetails(t.place(), t.entry()) : t.place();
+    }
+
+    // 캐시에 상세 엔트리가 있으면 그대로, 없으면 details 까지만 받아옴 (AI 요약은 summarizeAndStore 에서 한꺼번에)
+    private TopPlace loadTopPlaceDetails(PlaceDto place) {
+        String key = PlaceEnrichmentCache.keyOf(place.getName(), place.getAddress());
+
+        PlaceEnrichmentCache.Entry cached = enrichmentCache.get(key);
+        if (cached != null && cached.isDetailed()) {
+            refreshIfStale(key, place, cached);
+            return new TopPlace(place, key, cached, false);
+        }
 
         try {
-            String query = place.getName() + " " +
-                    Optional.ofNullable(place.getAddress()).orElse("");
+            PlaceEnrichmentCache.Entry entry = fetchDetailedEntryWithoutSummary(place, cached);
+            if (entry == null) return TopPlace.unchanged(place);
 
-            String tsUrl = "https://maps.googleapis.com/maps/api/place/textsearch/json"
-                    + "?query={query}&key={key}";
+            boolean needsSummary = entry.getReviewSummary() == null && !entry.getReviewTexts().isEmpty();
+            if (!needsSummary) enrichmentCache.put(key, entry);
+            return new TopPlace(place, key, entry, needsSummary);
 
-            ResponseEntity<Map> tsResp =
-                    restTemplate.getForEntity(tsUrl, Map.class, query, googleApiKey);
-            Map<String, Object> tsBody = tsResp.getBody();
-            if (tsBody == null) return place;
+        } catch (Exception e) {
+            logEnrichFailure("리뷰/사진 enrich", place, e);
+            return TopPlace.unchanged(place);
+        }
+    }
 
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> results =
-                    (List<Map<String, Object>>) tsBody.get("results");
-            if (results == null || results.isEmpty()) return place;
+    /**
+     * 요약이 필요한 장소들의 리뷰를 GPT 한 번에 요약 (summarizeReviewsBatch).
+     * 배치 응답에서 빠진 장소만 장소별 summarizeReviews 를 동시에 호출해서 채운다 (배치 호출 자체가 실패했으면 생략).
+     * 실패 안내 문구는 요약으로 저장하지 않음 (null 로 두고 다음 보강 때 다시 시도).
+     * deadline 을 넘겨도 이 작업은 끝까지 돌고 결과는 캐시에 남음 (다음 요청부터 사용).
+     */
+    private List<PlaceDto> summarizeAndStore(List<TopPlace> places) {
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < places.size(); i++) {
+            if (places.get(i).needsSummary()) pending.add(i);
+        }
+        String[] summaries = new String[places.size()];
+
+        if (!pending.isEmpty()) {
+            List<OpenAiService.ReviewSet> sets = pending.stream()
+                    .map(places::get)
+                    .map(t -> new OpenAiService.ReviewSet(t.place().getName(), t.entry().getReviewTexts()))
+                    .toList();
+            List<String> batch = RequestTrace.stage("review_summary",
+                    () -> openAiService.summarizeReviewsBatch(sets));
+
+            Map<Integer, CompletableFuture<String>> fallbacks = new LinkedHashMap<>();
+            for (int n = 0; n < pending.size(); n++) {
+                int index = pending.get(n);
+                if (batch.get(n) != null) {
+                    summaries[index] = usableSummary(batch.get(n));
+                } else {
+                    TopPlace t = places.get(index);
+                    fallbacks.put(index, supplyAsync(() -> openAiService.summarizeReviews(
+                            t.place().getName(), t.entry().getReviewTexts())));
+                }
+            }
+            fallbacks.forEach((index, future) -> {
+                try {
+                    summaries[index] = usableSummary(future.join());
+                } catch (Exception e) {
+                    logEnrichFailure("리뷰 요약", places.get(index).place(), e);
+                }
+            });
+        }
 
-            Map<String, Object> best = results.get(0);
-            String placeId = (String) best.get("place_id");
-            if (placeId == null) return place;
+        List<PlaceDto> results = new ArrayList<>(places.size());
+        for (int i = 0; i < places.size(); i++) {
+            TopPlace t = places.get(i);
+            if (t.needsSummary()) {
+                PlaceEnrichmentCache.Entry entry = t.entry().toBuilder().reviewSummary(summaries[i]).build();
+                enrichmentCache.put(t.key(), entry);
+                t = new TopPlace(t.place(), t.key(), entry, false);
+            }
+            results.add(applyLoaded(t));
+        }
+        return results;
+    }
 
-            String detailsUrl = "https://maps.googleapis.com/maps/api/place/details/json"
-                    + "?place_id={id}&fields=rating,reviews,photos&key={key}";
+    // textsearch(필요 시) + details(rating, reviews, photos) + AI 요약까지 받아서 엔트리 생성 (백그라운드 갱신용)
+    private PlaceEnrichmentCache.Entry fetchDetailedEntry(PlaceDto place, PlaceEnrichmentCache.Entry previous) {
+        PlaceEnrichmentCache.Entry entry = fetchDetailedEntryWithoutSummary(place, previous);
+        if (entry == null || entry.getReviewSummary() != null || entry.getReviewTexts().isEmpty()) {
+            return entry;
+        }
 
-            ResponseEntity<Map> dResp =
-                    restTemplate.getForEntity(detailsUrl, Map.class, placeId, googleApiKey);
-            Map<String, Object> dBody = dResp.getBody();
-            if (dBody == null) return place;
+        String aiSummary = RequestTrace.stage("review_summary",
+                () -> openAiService.summarizeReviews(place.getName(), entry.getReviewTexts()));
+        return entry.toBuilder().reviewSummary(usableSummary(aiSummary)).build();
+    }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> result = (Map<String, Object>) dBody.get("result");
-            if (result == null) return place;
+    // GPT 실패 안내 문구("AI가 잠시 휴식 중..")는 장소 요약으로 남기지 않음
+    private static String usableSummary(String summary) {
+        return OpenAiService.isFallbackReply(summary) ? null : summary;
+    }
 
-            Double rating = result.get("rating") != null
-                    ? ((Number) result.get("rating")).doubleValue()
-                    : place.getRating();
-
-            // 리뷰 최대 3개 수집
-            List<String> reviewTexts = new ArrayList<>();
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> reviews =
-                    (List<Map<String, Object>>) result.get("reviews");
-
-            if (reviews != null) {
-                for (Map<String, Object> rv : reviews) {
-                    Object txt = rv.get("text");
-                    if (txt instanceof String text && !text.isBlank()) {
-                        reviewTexts.add(text);
-                        if (reviewTexts.size() >= 4) break;
-                    }
+    // textsearch(필요 시) + details(rating, reviews, photos). 리뷰가 예전과 그대로면 예전 AI 요약을 유지, 아니면 null
+    private PlaceEnrichmentCache.Entry fetchDetailedEntryWithoutSummary(PlaceDto place,
+                                                                        PlaceEnrichmentCache.Entry previous) {
+        // 이미 place_id 를 알고 있으면 textsearch 생략
+        String placeId = (previous != null && previous.getPlaceId() != null)
+                ? previous.getPlaceId()
+                : findPlaceId(place);
+        if (placeId == null) return null;
+
+        Map<String, Object> result = fetchDetails(placeId, "rating,reviews,photos");
+        if (result == null) return null;
+
+        Double rating = readRating(result, place.getRating());
+
+        // 리뷰 최대 3개 수집
+        List<String> reviewTexts = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> reviews =
+                (List<Map<String, Object>>) result.get("reviews");
+
+        if (reviews != null) {
+            for (Map<String, Object> rv : reviews) {
+                Object txt = rv.get("text");
+                if (txt instanceof String text && !text.isBlank()) {
+                    reviewTexts.add(text);
+                    if (reviewTexts.size() >= 4) break;
                 }
             }
+        }
+
+        // AI 요약 (리뷰가 예전과 그대로면 예전 요약을 재사용, 새로 만드는 건 호출 측에서)
+        String aiSummary = null;
+        if (previous != null && usableSummary(previous.getReviewSummary()) != null
+                && reviewTexts.equals(previous.getReviewTexts())) {
+            aiSummary = previous.getReviewSummary();
+        }
 
-            // AI 요약
-            String aiSummary = null;
-            if (!reviewTexts.isEmpty()) {
-                aiSummary = openAiService.summarizeReviews(place.getName(), reviewTexts);
+        // 사진 reference 최대 3개 (URL 은 응답 만들 때 조립)
+        List<String> photoRefs = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> photos =
+                (List<Map<String, Object>>) result.get("photos");
+
+        if (photos != null) {
+            for (int i = 0; i < Math.min(3, photos.size()); i++) {
+                String ref = (String) photos.get(i).get("photo_reference");
+                if (ref != null) photoRefs.add(ref);
             }
+        }
+
+        return PlaceEnrichmentCache.Entry.builder()
+                .placeId(placeId)
+                .rating(rating)
+                .detailed(true)
+                .reviewTexts(reviewTexts)
+                .photoReferences(photoRefs)
+                .reviewSummary(aiSummary)
+                .fetchedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    // stale 이면 기존 값은 그대로 쓰고, 뒤에서 한 번만 새로 받아옴
+    private void refreshIfStale(String key, PlaceDto place, PlaceEnrichmentCache.Entry cached) {
+        if (!enrichmentCache.isStale(cached) || !enrichmentCache.tryStartRefresh(key)) return;
 
-            // 📌 리뷰 요약만 사용 (평점 등 추가 문구 제거)
-            String summary = (aiSummary != null) ? aiSummary : "";
-
-            // 이미지 URL 최대 3개
-            List<String> urls = new ArrayList<>();
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> photos =
-                    (List<Map<String, Object>>) result.get("photos");
-
-            if (photos != null) {
-                for (int i = 0; i < Math.min(3, photos.size()); i++) {
-                    String ref = (String) photos.get(i).get("photo_reference");
-                    if (ref != null) {
-                        urls.add(
-                                "https://maps.googleapis.com/maps/api/place/photo"
-                                        + "?maxwidth=800"
-                                        + "&photo_reference=" + URLEncoder.encode(ref, StandardCharsets.UTF_8)
-                                        + "&key=" + googleApiKey
-                        );
-                    }
+        try {
+            enrichmentExecutor.execute(() -> {
+                try {
+                    PlaceEnrichmentCache.Entry fresh = cached.isDetailed()
+                            ? fetchDetailedEntry(place, cached)
+                            : refreshRating(cached);
+                    if (fresh != null) enrichmentCache.put(key, fresh);
+                } catch (Exception e) {
+                    log.warn("Google 보강 캐시 갱신 실패: {}", place.getName(), e);
+                } finally {
+                    enrichmentCache.finishRefresh(key);
                 }
-            }
+            });
+        } catch (RejectedExecutionException e) {
+            enrichmentCache.finishRefresh(key);
+        }
+    }
 
-            return PlaceDto.builder()
-                    .id(place.getId())
-                    .name(place.getName())
-                    .address(place.getAddress())
-                    .latitude(place.getLatitude())
-                    .longitude(place.getLongitude())
-                    .category(place.getCategory())
-                    .rating(rating)
-                    .reviewSummary(summary)
-                    .imageUrls(urls)
-                    .build();
+    // 회로 차단/한도 초과는 ProviderGuard 메트릭에 이미 잡히므로 스택 없이 한 줄만
+    private void logEnrichFailure(String what, PlaceDto place, Exception e) {
+        if (e instanceof ProviderUnavailableException || e instanceof ProviderBusyException) {
+            log.info("{} 생략: {} ({})", what, place.getName(), e.getMessage());
+        } else {
+            log.warn("{} 실패: {}", what, place.getName(), e);
+        }
+    }
 
-        } catch (Exception e) {
-            log.warn("리뷰/사진 enrich 실패: {}", place.getName(), e);
-            return place;
+    private PlaceEnrichmentCache.Entry refreshRating(PlaceEnrichmentCache.Entry cached) {
+        Map<String, Object> result = fetchDetails(cached.getPlaceId(), "rating,user_ratings_total");
+        if (result == null) return null;
+
+        return cached.toBuilder()
+                .rating(readRating(result, cached.getRating()))
+                .fetchedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * 카탈로그 보강 작업(PlaceEnrichmentJob)용: rating / 리뷰 / 사진 ref 만 받아옴 (AI 요약 없음, 캐시 안 씀).
+     * 호출은 요청 경로와 같은 ProviderGuard 한도를 거친다. 못 찾았거나 키가 없으면 null.
+     */
+    public PlaceEnrichmentCache.Entry fetchDetailsWithoutSummary(PlaceDto place) {
+        if (googleApiKey == null || googleApiKey.isBlank()) return null;
+        return fetchDetailedEntryWithoutSummary(place, null);
+    }
+
+    // photo_reference -> 응답에 내려주는 이미지 URL (API 키가 없는 사진 프록시 주소, PhotoController)
+    public String photoUrl(String photoReference) {
+        return photoBaseUrl + photoPath(photoReference);
+    }
+
+    // 백엔드 주소 없이 경로만 (places.image_urls 처럼 오래 저장되는 곳용). Google URL/키는 절대 저장하지 않음
+    public String photoPath(String photoReference) {
+        return "/api/photos/" + URLEncoder.encode(photoReference, StandardCharsets.UTF_8)
+                + "?sig=" + photoSigner.sign(photoReference);
+    }
+
+    // =====================================================
+    // Google API 호출
+    // =====================================================
+
+    private String findPlaceId(PlaceDto place) {
+        String query = place.getName() + " " +
+                Optional.ofNullable(place.getAddress()).orElse("");
+
+        String tsUrl = googleBaseUrl + "/maps/api/place/textsearch/json"
+                + "?query={query}&key={key}";
+
+        // 같은 장소를 동시에 보강하는 요청끼리는 textsearch 한 번만
+        ResponseEntity<Map> tsResp = singleFlight.execute(OutboundProvider.GOOGLE, "textsearch", query,
+                () -> providerGuard.call(OutboundProvider.GOOGLE,
+                        () -> restTemplate.getForEntity(tsUrl, Map.class, query, googleApiKey)));
+        Map<String, Object> body = tsResp.getBody();
+        if (body == null) return null;
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> results =
+                (List<Map<String, Object>>) body.get("results");
+
+        if (results == null || results.isEmpty()) return null;
+
+        Map<String, Object> best = results.get(0);
+        return (String) best.get("place_id");
+    }
+
+    private Map<String, Object> fetchDetails(String placeId, String fields) {
+        String detailsUrl = googleBaseUrl + "/maps/api/place/details/json"
+                + "?place_id={id}&fields={fields}&key={key}";
+
+        ResponseEntity<Map> dResp = singleFlight.execute(OutboundProvider.GOOGLE, "details", placeId + "|" + fields,
+                () -> providerGuard.call(OutboundProvider.GOOGLE,
+                        () -> restTemplate.getForEntity(detailsUrl, Map.class, placeId, fields, googleApiKey)));
+        Map<String, Object> dBody = dResp.getBody();
+        if (dBody == null) return null;
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) dBody.get("result");
+        return result;
+    }
+
+    private Double readRating(Map<String, Object> result, Double fallback) {
+        return result.get("rating") != null
+                ? ((Number) result.get("rating")).doubleValue()
+                : fallback;
+    }
+
+    // =====================================================
+    // 캐시 엔트리 -> PlaceDto
+    // =====================================================
+
+    private PlaceDto applyRating(PlaceDto place, PlaceEnrichmentCache.Entry entry) {
+        return PlaceDto.builder()
+                .id(place.getId())
+                .name(place.getName())
+                .address(place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .category(place.getCategory())
+                .rating(entry.getRating() != null ? entry.getRating() : place.getRating())
+                // **평점 붙이지 않음**
+                .reviewSummary("")
+                .imageUrls(place.getImageUrls())
+                .build();
+    }
+
+    private PlaceDto applyDetails(PlaceDto place, PlaceEnrichmentCache.Entry entry) {
+        // 📌 리뷰 요약만 사용 (평점 등 추가 문구 제거)
+        // 예전에 저장된 실패 안내 문구는 빈 요약으로
+        String summary = Objects.requireNonNullElse(usableSummary(entry.getReviewSummary()), "");
+
+        // 이미지 URL 최대 3개
+        List<String> urls = new ArrayList<>();
+        if (entry.getPhotoReferences() != null) {
+            for (String ref : entry.getPhotoReferences()) {
+                urls.add(photoUrl(ref));
+            }
         }
+
+        return PlaceDto.builder()
+                .id(place.getId())
+                .name(place.getName())
+                .address(place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .category(place.getCategory())
+                .rating(entry.getRating() != null ? entry.getRating() : place.getRating())
+                .reviewSummary(summary)
+                .imageUrls(urls)
+                .build();
     }
 }
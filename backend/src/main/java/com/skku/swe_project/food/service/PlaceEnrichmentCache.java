@@ -0,0 +1,188 @@
+package com.skku.swe_project.food.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Google Places 보강 결과(place_id, 평점, 리뷰, 사진 ref, AI 요약) 캐시.
+ * - key: 정규화한 "이름|주소"
+ * - refresh-after 가 지나면 stale: 일단 기존 값을 돌려주고 뒤에서 새로 받아옴 (stale-while-revalidate)
+ * - ttl 이 지나면 완전히 만료
+ * - google.enrichment-cache.file 을 지정하면 파일로 저장해서 재시작 후에도 유지
+ *   (저장은 스케줄러 스레드에서 주기적으로. 요청 스레드(가상 스레드)는 파일 I/O 를 하지 않음)
+ */
+@Slf4j
+@Component
+public class PlaceEnrichmentCache {
+
+    @Value("${google.enrichment-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${google.enrichment-cache.ttl-hours:168}")
+    private long ttlHours;
+
+    @Value("${google.enrichment-cache.refresh-after-hours:24}")
+    private long refreshAfterHours;
+
+    // 비워두면 메모리에만 저장
+    @Value("${google.enrichment-cache.file:}")
+    private String storeFile;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Cache<String, Entry> cache;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+    // synchronized 대신 ReentrantLock (PhotoDiskCache 와 같은 이유: 가상 스레드 pinning 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlHours, TimeUnit.HOURS)
+                .recordStats()
+                .build();
+        loadFromDisk();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    public Entry get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        // 디스크에서 읽어온 엔트리는 Caffeine 기준 작성 시각이 로드 시점이므로 직접 한 번 더 확인
+        if (entry != null && isExpired(entry)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(String key, Entry entry) {
+        cache.put(key, entry);
+        dirty = true;
+    }
+
+    public boolean isStale(Entry entry) {
+        return System.currentTimeMillis() - entry.getFetchedAt() > Duration.ofHours(refreshAfterHours).toMillis();
+    }
+
+    /** 백그라운드 갱신을 시작해도 되는지 (같은 key 에 대해 하나만) */
+    public boolean tryStartRefresh(String key) {
+        return refreshing.add(key);
+    }
+
+    public void finishRefresh(String key) {
+        refreshing.remove(key);
+    }
+
+    public static String keyOf(String name, String address) {
+        String raw = (name != null ? name : "") + "|" + (address != null ? address : "");
+        return Normalizer.normalize(raw, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.currentTimeMillis() - entry.getFetchedAt() > Duration.ofHours(ttlHours).toMillis();
+    }
+
+    // =====================================================
+    // 디스크 저장소
+    // =====================================================
+
+    private void loadFromDisk() {
+        if (storeFile == null || storeFile.isBlank()) return;
+
+        Path path = Path.of(storeFile);
+        if (!Files.exists(path)) return;
+
+        try {
+            Map<String, Entry> stored = objectMapper.readValue(path.toFile(), new TypeReference<Map<String, Entry>>() {});
+            int loaded = 0;
+            for (Map.Entry<String, Entry> e : stored.entrySet()) {
+                if (!isExpired(e.getValue())) {
+                    cache.put(e.getKey(), e.getValue());
+                    loaded++;
+                }
+            }
+            log.info("💾 Google 보강 캐시 로드: {}개 (파일: {})", loaded, path);
+        } catch (Exception e) {
+            log.warn("⚠️ Google 보강 캐시 파일을 읽지 못했습니다. 빈 캐시로 시작합니다: {}", path, e);
+        }
+    }
+
+    // 파일 저장 주기 (바뀐 게 있을 때만 씀)
+    @Scheduled(fixedDelayString = "${google.enrichment-cache.flush-interval-seconds:60}",
+            initialDelayString = "${google.enrichment-cache.flush-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void flush() {
+        if (storeFile == null || storeFile.isBlank() || !dirty) return;
+
+        Path path = Path.of(storeFile);
+        flushLock.lock();
+        try {
+            // 쓰는 도중 들어온 put 은 다시 dirty 로 남아서 다음 주기에 저장됨
+            dirty = false;
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            // 임시 파일에 쓰고 교체 -> 쓰는 도중 죽어도 기존 파일은 안전
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), new HashMap<>(cache.asMap()));
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            dirty = true;
+            log.warn("⚠️ Google 보강 캐시 저장 실패: {}", path, e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 캐시에 저장되는 보강 정보 (사진은 API 키가 들어간 URL 대신 photo_reference 만 저장) */
+    @Getter
+    @Setter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String placeId;
+        private Double rating;
+        private boolean detailed;               // 리뷰/사진까지 받아온 엔트리인지
+        private List<String> reviewTexts;
+        private List<String> photoReferences;
+        private String reviewSummary;           // AI 리뷰 요약
+        private long fetchedAt;                 // epoch millis
+    }
+}
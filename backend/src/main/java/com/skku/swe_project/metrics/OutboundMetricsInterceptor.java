@@ -0,0 +1,44 @@
+package com.skku.swe_project.metrics;
+
+import com.skku.swe_project.outbound.OutboundProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * RestTemplate 호출 1건마다 outbound.request 타이머 기록.
+ * endpoint 태그는 쿼리스트링을 뺀 path 만 사용 (카디널리티 제한).
+ * 스트리밍 응답은 헤더를 받은 시점까지(첫 바이트)만 측정됨.
+ */
+@RequiredArgsConstructor
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final OutboundProvider provider;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String endpoint = request.getURI().getPath();
+        long start = System.nanoTime();
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outcome = outcomeOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            pipelineMetrics.recordOutbound(provider.key(), endpoint, outcome, System.nanoTime() - start);
+        }
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) return "SERVER_ERROR";
+        if (status == 429) return "RATE_LIMITED";
+        if (status >= 400) return "CLIENT_ERROR";
+        return "SUCCESS";
+    }
+}
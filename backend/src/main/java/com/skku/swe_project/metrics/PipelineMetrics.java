@@ -0,0 +1,69 @@
+package com.skku.swe_project.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 파이프라인 / 외부 API 지연 시간 메트릭.
+ * - recommend.stage    {stage, intent}                        : 단계별 소요 시간
+ * - recommend.total    {intent}                               : 요청 전체 소요 시간
+ * - outbound.request   {provider, endpoint, outcome, intent}  : 외부 API 호출 1건
+ * 모두 p50/p95/p99 + Prometheus 히스토그램 버킷을 같이 내보냄 (/actuator/prometheus)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    /** 요청이 끝났을 때 호출: 단계별 타이머 기록 + 한 줄 요약 로그 */
+    public void finish(RequestTrace trace, String endpoint) {
+        String intent = trace.getIntent();
+        long totalNanos = trace.elapsedNanos();
+        Map<String, Long> stages = trace.stageNanos();
+
+        StringBuilder breakdown = new StringBuilder();
+        stages.forEach((stage, nanos) -> {
+            timer("recommend.stage", "stage", stage, "intent", intent).record(nanos, TimeUnit.NANOSECONDS);
+            long calls = trace.count(stage);
+            breakdown.append(' ').append(stage).append('=').append(toMillis(nanos)).append("ms");
+            if (calls > 1) breakdown.append('(').append(calls).append(')');
+        });
+        timer("recommend.total", "intent", intent).record(totalNanos, TimeUnit.NANOSECONDS);
+
+        log.info("⏱️ {} 단계별 소요시간 intent={} total={}ms |{}",
+                endpoint, intent, toMillis(totalNanos), breakdown);
+    }
+
+    public void recordOutbound(String provider, String endpoint, String outcome, long nanos) {
+        timer("outbound.request",
+                "provider", provider,
+                "endpoint", endpoint,
+                "outcome", outcome,
+                "intent", RequestTrace.currentIntent())
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(meterRegistry);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
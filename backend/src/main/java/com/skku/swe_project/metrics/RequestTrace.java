@@ -0,0 +1,125 @@
+package com.skku.swe_project.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 추천 요청 하나의 단계별 소요 시간 기록.
+ * - 요청 스레드에 ThreadLocal 로 묶어두고, 하위 서비스는 RequestTrace.stage(...) 로 감싸기만 하면 됨
+ * - 다른 스레드(executor)로 넘기는 작업은 propagate(...) 로 감싸야 같은 trace 에 기록됨
+ * - 병렬로 돈 단계는 시간이 합산되므로 단계 합계가 전체 시간보다 클 수 있음
+ */
+public final class RequestTrace implements AutoCloseable {
+
+    public static final String UNKNOWN_INTENT = "UNKNOWN";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, long[]> stages = new LinkedHashMap<>(); // stage -> [누적 nanos, 호출 횟수]
+    private volatile String intent = UNKNOWN_INTENT;
+
+    private RequestTrace() {
+    }
+
+    /** 새 trace 를 만들어 현재 스레드에 묶음 (try-with-resources 로 닫기) */
+    public static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static Optional<RequestTrace> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /** 현재 요청의 intent (아직 모르거나 요청 밖이면 UNKNOWN) */
+    public static String currentIntent() {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? trace.intent : UNKNOWN_INTENT;
+    }
+
+    public static <T> T stage(String stage, Supplier<T> body) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) return body.get();
+
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            trace.record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public static void stage(String stage, Runnable body) {
+        stage(stage, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /** 현재 trace 를 다른 스레드에서 실행될 작업에 넘겨줌 */
+    public static <T> Supplier<T> propagate(Supplier<T> body) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) return body;
+
+        return () -> {
+            RequestTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                return body.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public synchronized void record(String stage, long nanos) {
+        long[] acc = stages.computeIfAbsent(stage, k -> new long[2]);
+        acc[0] += nanos;
+        acc[1]++;
+    }
+
+    public void setIntent(String intent) {
+        if (intent != null && !intent.isBlank()) {
+            this.intent = intent;
+        }
+    }
+
+    public String getIntent() {
+        return intent;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /** stage -> 누적 nanos (기록된 순서 유지) */
+    public synchronized Map<String, Long> stageNanos() {
+        Map<String, Long> copy = new LinkedHashMap<>();
+        stages.forEach((stage, acc) -> copy.put(stage, acc[0]));
+        return copy;
+    }
+
+    public synchronized long count(String stage) {
+        long[] acc = stages.get(stage);
+        return acc != null ? acc[1] : 0;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    private static void restore(RequestTrace previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.skku.swe_project.outbound;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 failureThreshold 번이면 OPEN -> openNanos 동안 호출을 바로 거절.
+ * 시간이 지나면 HALF_OPEN 으로 시험 호출 한 번만 보내고, 성공하면 CLOSED / 실패하면 다시 OPEN.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN;
+
+        // 메트릭 값 (0 = 정상, 2 = 차단)
+        int level() {
+            return ordinal();
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openNanos) {
+        this(failureThreshold, openNanos, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long openNanos, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openNanos;
+        this.clock = clock;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) yield false;
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /** @return 이번 실패로 OPEN 으로 바뀌었으면 true */
+    synchronized boolean onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            return true;
+        }
+        return false;
+    }
+
+    /** 성공도 실패도 아닌 결과 (예: 400/404) - 시험 호출 자리만 반납 */
+    synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
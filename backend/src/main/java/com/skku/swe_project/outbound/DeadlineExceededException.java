@@ -0,0 +1,12 @@
+package com.skku.swe_project.outbound;
+
+/**
+ * 호출 측 deadline (ProviderGuard.withDeadline) 이 지나서 호출을 보내지 않았거나 기다림을 포기한 경우.
+ * 제공자 상태가 아니라 그 요청의 사정이라, SingleFlight 는 이 예외를 다른 요청과 나눠 쓰지 않는다.
+ */
+public class DeadlineExceededException extends ProviderUnavailableException {
+
+    public DeadlineExceededException(OutboundProvider provider) {
+        super(provider, "요청 deadline 초과");
+    }
+}
@@ -0,0 +1,15 @@
+package com.skku.swe_project.outbound;
+
+/**
+ * 외부 API 제공자 구분 (동시성 제한 등을 제공자별로 따로 걸기 위함)
+ */
+public enum OutboundProvider {
+    KAKAO,
+    GOOGLE,
+    OPENAI;
+
+    // 설정 키에 쓰는 소문자 이름 (예: outbound.google.max-concurrency)
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,11 @@
+package com.skku.swe_project.outbound;
+
+/**
+ * 제공자별 동시 호출 한도에 걸려 제한 시간 안에 자리를 얻지 못한 경우
+ */
+public class ProviderBusyException extends RuntimeException {
+
+    public ProviderBusyException(OutboundProvider provider) {
+        super(provider.key() + " 동시 호출 한도 초과");
+    }
+}
@@ -0,0 +1,71 @@
+package com.skku.swe_project.outbound;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 제공자(Kakao/Google/OpenAI)별 동시 호출 수 제한.
+ * 한 제공자가 느려져도 그 제공자 몫의 자리만 막히고, 다른 제공자 호출은 계속 나갈 수 있게 함.
+ * 설정: outbound.{provider}.max-concurrency, outbound.acquire-timeout-ms
+ */
+@Slf4j
+@Component
+public class ProviderConcurrencyLimiter {
+
+    private static final Map<OutboundProvider, Integer> DEFAULT_LIMITS = Map.of(
+            OutboundProvider.KAKAO, 16,
+            OutboundProvider.GOOGLE, 12,
+            OutboundProvider.OPENAI, 8
+    );
+
+    private final Map<OutboundProvider, Semaphore> permits = new EnumMap<>(OutboundProvider.class);
+    private final long acquireTimeoutMs;
+
+    public ProviderConcurrencyLimiter(Environment env) {
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            int limit = env.getProperty("outbound." + provider.key() + ".max-concurrency",
+                    Integer.class, DEFAULT_LIMITS.get(provider));
+            permits.put(provider, new Semaphore(limit, true));
+        }
+        this.acquireTimeoutMs = env.getProperty("outbound.acquire-timeout-ms", Long.class, 3000L);
+    }
+
+    public <T> T call(OutboundProvider provider, Supplier<T> call) {
+        return call(provider, Long.MAX_VALUE, call);
+    }
+
+    /**
+     * 자리를 기다리는 시간은 min(outbound.acquire-timeout-ms, maxWaitNanos).
+     * 호출 측 deadline 이 얼마 안 남았으면 그만큼만 기다림 (deadline 을 넘겨 자리를 얻어봐야 결과를 쓸 곳이 없음)
+     */
+    public <T> T call(OutboundProvider provider, long maxWaitNanos, Supplier<T> call) {
+        Semaphore semaphore = permits.get(provider);
+        long waitNanos = Math.max(0, Math.min(TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs), maxWaitNanos));
+        try {
+            if (!semaphore.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+                log.warn("⏳ {} 동시 호출 한도 대기 시간 초과", provider.key());
+                throw new ProviderBusyException(provider);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderBusyException(provider);
+        }
+
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int availablePermits(OutboundProvider provider) {
+        return permits.get(provider).availablePermits();
+    }
+}
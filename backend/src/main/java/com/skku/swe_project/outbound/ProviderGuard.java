@@ -0,0 +1,293 @@
+package com.skku.swe_project.outbound;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출 보호막. 호출 한 번(시도마다)의 순서:
+ * 회로 차단기(circuit breaker) -> 토큰 버킷(rate limit) -> 동시 호출 한도(bulkhead, ProviderConcurrencyLimiter) -> 실제 호출
+ *
+ * 429 / 503 응답은 지수 백오프 + jitter 로 재시도하고, Retry-After 헤더가 있으면 그 시간을 따른다.
+ * 5xx / 네트워크 오류가 연속되면 회로가 열려서 한동안 해당 제공자 호출을 바로 거절한다 (ProviderUnavailableException).
+ * 그 밖의 예외 (응답을 처리하는 우리 쪽 콜백에서 난 예외 등) 는 제공자 실패로 세지 않고 그대로 던진다.
+ * withDeadline(..) 으로 감싼 작업 안에서는 요청 deadline 이 지나면 새로 시도하거나 재시도 대기를 하지 않고,
+ * rate 토큰/bulkhead 자리도 남은 deadline 만큼만 기다린다
+ * (deadline 을 넘겨 버려진 작업이 Retry-After 만큼 자면서 bulkhead 자리를 붙잡지 않도록).
+ * bulkhead 에서 거절되면 받아둔 rate 토큰은 돌려놓는다.
+ *
+ * 설정 (provider = kakao / google / openai)
+ * - outbound.{provider}.rate-per-second, outbound.{provider}.rate-burst, outbound.{provider}.rate-wait-ms
+ * - outbound.{provider}.max-attempts
+ * - outbound.{provider}.circuit.failure-threshold, outbound.{provider}.circuit.open-seconds
+ * - outbound.retry.base-backoff-ms, outbound.retry.max-backoff-ms, outbound.retry.max-retry-after-ms
+ */
+@Slf4j
+@Component
+public class ProviderGuard {
+
+    // 제공자별 기본 요청 한도 (초당). 실제 쿼터에 맞춰 설정으로 조정
+    private static final Map<OutboundProvider, Double> DEFAULT_RATES = Map.of(
+            OutboundProvider.KAKAO, 20.0,
+            OutboundProvider.GOOGLE, 50.0,
+            OutboundProvider.OPENAI, 8.0
+    );
+
+    // OpenAI 는 재시도 한 번이 곧 토큰 비용이라 덜 재시도
+    private static final Map<OutboundProvider, Integer> DEFAULT_MAX_ATTEMPTS = Map.of(
+            OutboundProvider.KAKAO, 3,
+            OutboundProvider.GOOGLE, 3,
+            OutboundProvider.OPENAI, 2
+    );
+
+    // 호출 측(요청)이 정한 마감 시각 (System.nanoTime 기준), withDeadline 안에서만 설정됨
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private final ProviderConcurrencyLimiter bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<OutboundProvider, TokenBucket> rateLimiters = new EnumMap<>(OutboundProvider.class);
+    private final Map<OutboundProvider, CircuitBreaker> circuits = new EnumMap<>(OutboundProvider.class);
+    private final Map<OutboundProvider, Long> rateWaitNanos = new EnumMap<>(OutboundProvider.class);
+    private final Map<OutboundProvider, Integer> maxAttempts = new EnumMap<>(OutboundProvider.class);
+
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final long maxRetryAfterMs;
+
+    public ProviderGuard(Environment env, ProviderConcurrencyLimiter bulkhead, MeterRegistry meterRegistry) {
+        this.bulkhead = bulkhead;
+        this.meterRegistry = meterRegistry;
+
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            String prefix = "outbound." + provider.key() + ".";
+            double rate = env.getProperty(prefix + "rate-per-second", Double.class, DEFAULT_RATES.get(provider));
+            double burst = env.getProperty(prefix + "rate-burst", Double.class, rate);
+            rateLimiters.put(provider, new TokenBucket(rate, burst));
+            rateWaitNanos.put(provider, TimeUnit.MILLISECONDS.toNanos(
+                    env.getProperty(prefix + "rate-wait-ms", Long.class, 1000L)));
+            maxAttempts.put(provider, Math.max(1,
+                    env.getProperty(prefix + "max-attempts", Integer.class, DEFAULT_MAX_ATTEMPTS.get(provider))));
+            circuits.put(provider, new CircuitBreaker(
+                    env.getProperty(prefix + "circuit.failure-threshold", Integer.class, 5),
+                    TimeUnit.SECONDS.toNanos(env.getProperty(prefix + "circuit.open-seconds", Long.class, 30L))));
+
+            registerGauges(provider);
+        }
+
+        this.baseBackoffMs = env.getProperty("outbound.retry.base-backoff-ms", Long.class, 200L);
+        this.maxBackoffMs = env.getProperty("outbound.retry.max-backoff-ms", Long.class, 2000L);
+        this.maxRetryAfterMs = env.getProperty("outbound.retry.max-retry-after-ms", Long.class, 5000L);
+    }
+
+    /**
+     * body 안에서의 call(..) 은 deadlineNanos 를 넘기면 새 시도 없이 DeadlineExceededException,
+     * 재시도 대기가 deadline 을 넘기면 재시도 없이 마지막 오류를 던진다. (RequestTrace.propagate 처럼 작업을 감싸서 사용)
+     */
+    public static <T> Supplier<T> withDeadline(long deadlineNanos, Supplier<T> body) {
+        return () -> {
+            Long previous = DEADLINE.get();
+            DEADLINE.set(deadlineNanos);
+            try {
+                return body.get();
+            } finally {
+                if (previous != null) {
+                    DEADLINE.set(previous);
+                } else {
+                    DEADLINE.remove();
+                }
+            }
+        };
+    }
+
+    // withDeadline 밖이면 Long.MAX_VALUE (SingleFlight 의 대기 시간 계산에도 사용)
+    static long remainingNanos() {
+        Long deadline = DEADLINE.get();
+        return deadline != null ? deadline - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public <T> T call(OutboundProvider provider, Supplier<T> call) {
+        CircuitBreaker circuit = circuits.get(provider);
+        int attempts = maxAttempts.get(provider);
+
+        for (int attempt = 1; ; attempt++) {
+            if (remainingNanos() <= 0) {
+                reject(provider, "deadline_exceeded");
+                throw new DeadlineExceededException(provider);
+            }
+            if (!circuit.tryAcquire()) {
+                reject(provider, "circuit_open");
+                throw new ProviderUnavailableException(provider, "회로 차단 중");
+            }
+            acquireRate(provider, circuit);
+
+            try {
+                // bulkhead 대기도 남은 deadline 안에서만
+                T result = bulkhead.call(provider, remainingNanos(), call);
+                circuit.onSuccess();
+                return result;
+            } catch (ProviderBusyException e) {
+                // 우리 쪽 동시 호출 한도 문제라 제공자 실패로 치지 않음
+                // 호출이 나가지 않았으므로 받아둔 rate 토큰도 반납 (안 그러면 거절된 요청이 쿼터를 갉아먹음)
+                rateLimiters.get(provider).refund();
+                circuit.onIgnored();
+                if (remainingNanos() <= 0) {
+                    // 한도 대기가 이 요청의 deadline 때문에 잘린 것
+                    reject(provider, "deadline_exceeded");
+                    throw new DeadlineExceededException(provider);
+                }
+                reject(provider, "bulkhead_full");
+                throw e;
+            } catch (RestClientResponseException e) {
+                int status = e.getStatusCode().value();
+                if (status == 429 || status >= 500) {
+                    recordFailure(provider, circuit);
+                } else {
+                    circuit.onIgnored(); // 400/404 등은 제공자 상태와 무관
+                    throw e;
+                }
+
+                long delayMs = retryDelayMs(e, attempt);
+                if (!isRetryable(status) || attempt >= attempts || delayMs < 0) throw e;
+                if (TimeUnit.MILLISECONDS.toNanos(delayMs) >= remainingNanos()) throw e; // 기다리면 deadline 초과
+
+                meterRegistry.counter("outbound.retry",
+                        "provider", provider.key(), "status", String.valueOf(status)).increment();
+                log.warn("🔁 {} {} 응답 - {}ms 후 재시도 ({}/{})", provider.key(), status, delayMs, attempt + 1, attempts);
+                sleep(delayMs);
+            } catch (RuntimeException e) {
+                if (isTransportFailure(e)) {
+                    // 타임아웃/연결 실패 등 - 재시도하면 deadline 만 잡아먹으므로 바로 실패
+                    recordFailure(provider, circuit);
+                } else {
+                    // 예: SSE 클라이언트가 끊겨서 onDelta 가 던진 UncheckedIOException - 제공자 잘못이 아님
+                    circuit.onIgnored();
+                }
+                throw e;
+            }
+        }
+    }
+
+    // RestTemplate 은 연결/타임아웃/응답 읽기 중 I/O 오류를 ResourceAccessException 으로 감싼다
+    static boolean isTransportFailure(RuntimeException e) {
+        if (e instanceof ResourceAccessException) return true;
+        return e instanceof RestClientException && e.getCause() instanceof IOException;
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status == 503;
+    }
+
+    /**
+     * 다음 시도까지 기다릴 시간(ms). Retry-After 가 있으면 그 값, 없으면 full jitter 지수 백오프.
+     * Retry-After 가 너무 길면(-1) 재시도하지 않음.
+     */
+    long retryDelayMs(RestClientResponseException e, int attempt) {
+        HttpHeaders headers = e.getResponseHeaders();
+        Long retryAfter = headers != null ? parseRetryAfterMs(headers.getFirst(HttpHeaders.RETRY_AFTER)) : null;
+        if (retryAfter != null) {
+            return retryAfter <= maxRetryAfterMs ? retryAfter : -1;
+        }
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // "120" (초) 또는 HTTP-date 형식 둘 다 허용
+    static Long parseRetryAfterMs(String value) {
+        if (value == null || value.isBlank()) return null;
+        String v = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(v)) * 1000;
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식일 수 있음
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+    private void acquireRate(OutboundProvider provider, CircuitBreaker circuit) {
+        boolean acquired;
+        long remaining = remainingNanos();
+        try {
+            long waitNanos = Math.max(0, Math.min(rateWaitNanos.get(provider), remaining));
+            acquired = rateLimiters.get(provider).acquire(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            circuit.onIgnored();
+            if (remaining < rateWaitNanos.get(provider)) {
+                // 평소라면 기다렸을 시간을 deadline 때문에 못 기다린 것
+                reject(provider, "deadline_exceeded");
+                throw new DeadlineExceededException(provider);
+            }
+            reject(provider, "rate_limited");
+            throw new ProviderUnavailableException(provider, "요청 한도 초과");
+        }
+    }
+
+    private void recordFailure(OutboundProvider provider, CircuitBreaker circuit) {
+        if (circuit.onFailure()) {
+            meterRegistry.counter("outbound.circuit.opened", "provider", provider.key()).increment();
+            log.warn("🚧 {} 회로 차단 (연속 실패)", provider.key());
+        }
+    }
+
+    private void reject(OutboundProvider provider, String reason) {
+        meterRegistry.counter("outbound.guard.rejected", "provider", provider.key(), "reason", reason).increment();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트", e);
+        }
+    }
+
+    private void registerGauges(OutboundProvider provider) {
+        CircuitBreaker circuit = circuits.get(provider);
+        TokenBucket bucket = rateLimiters.get(provider);
+
+        Gauge.builder("outbound.circuit.state", circuit, c -> c.state().level())
+                .description("회로 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("provider", provider.key())
+                .register(meterRegistry);
+        Gauge.builder("outbound.ratelimit.tokens", bucket, TokenBucket::availableTokens)
+                .description("지금 바로 쓸 수 있는 요청 토큰 수")
+                .tag("provider", provider.key())
+                .register(meterRegistry);
+        Gauge.builder("outbound.bulkhead.available", bulkhead, b -> b.availablePermits(provider))
+                .description("남은 동시 호출 자리")
+                .tag("provider", provider.key())
+                .register(meterRegistry);
+    }
+
+    CircuitBreaker.State circuitState(OutboundProvider provider) {
+        return circuits.get(provider).state();
+    }
+}
@@ -0,0 +1,11 @@
+package com.skku.swe_project.outbound;
+
+/**
+ * 제공자 회로가 열려 있거나(OPEN) 요청 한도(rate limit)를 기다릴 수 없어서 호출을 보내지 않은 경우
+ */
+public class ProviderUnavailableException extends RuntimeException {
+
+    public ProviderUnavailableException(OutboundProvider provider, String reason) {
+        super(provider.key() + " 호출 거절: " + reason);
+    }
+}
@@ -0,0 +1,105 @@
+package com.skku.swe_project.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 의 외부 호출이 동시에 여러 번 들어오면 실제 HTTP 호출은 한 번만 하고 결과를 나눠 씀 (single-flight).
+ * - 처음 들어온 호출(leader)이 실행하고, 그동안 들어온 같은 key 의 호출은 leader 의 결과를 기다림
+ * - 호출이 끝나면 바로 key 를 지움 (결과를 저장해두는 캐시가 아님)
+ * - 예외도 그대로 공유 (기다리던 호출들도 같은 예외를 받음). 단 leader 의 deadline 초과(DeadlineExceededException)는
+ *   공유하지 않고, 기다리던 호출 중 하나가 새 leader 가 되어 다시 호출
+ * - 기다리는 쪽은 자기 deadline(ProviderGuard.withDeadline) 까지만 기다림
+ * 메트릭: outbound.singleflight{provider, endpoint, result=leader|coalesced}, outbound.singleflight.inflight
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("outbound.singleflight.inflight", inFlight, ConcurrentHashMap::size)
+                .description("진행 중인 single-flight 호출 수")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(OutboundProvider provider, String endpoint, String key, Supplier<T> call) {
+        if (key == null) return call.get();
+
+        String flightKey = provider.key() + ":" + endpoint + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing;
+        while ((existing = inFlight.putIfAbsent(flightKey, mine)) != null) {
+            counter(provider, endpoint, "coalesced").increment();
+            try {
+                return (T) await(provider, existing);
+            } catch (LeaderDeadlineExceeded e) {
+                // leader 가 자기 deadline 때문에 실패 -> 아직 시간이 남은 이 호출이 새 leader 로 다시 시도
+                inFlight.remove(flightKey, existing);
+            }
+        }
+
+        counter(provider, endpoint, "leader").increment();
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    // leader 의 결과를 최대 "이 호출의" 남은 deadline 만큼만 기다림 (withDeadline 밖이면 제한 없음)
+    private static Object await(OutboundProvider provider, CompletableFuture<Object> future) {
+        long remaining = ProviderGuard.remainingNanos();
+        try {
+            return remaining == Long.MAX_VALUE
+                    ? future.get()
+                    : future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(provider);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderUnavailableException(provider, "결과 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // deadline 초과는 leader 요청의 사정이지 결과가 아니므로 나눠 쓰지 않음
+            if (cause instanceof DeadlineExceededException) throw new LeaderDeadlineExceeded();
+            // leader 가 던진 예외를 감싸지 않고 그대로 전달
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // await 에서 "다시 leader 를 정하라" 는 신호 (밖으로 나가지 않음)
+    private static final class LeaderDeadlineExceeded extends RuntimeException {
+        LeaderDeadlineExceeded() {
+            super(null, null, false, false);
+        }
+    }
+
+    private Counter counter(OutboundProvider provider, String endpoint, String result) {
+        return Counter.builder("outbound.singleflight")
+                .description("외부 호출 single-flight 결과 (coalesced = 다른 호출의 결과를 나눠 씀)")
+                .tag("provider", provider.key())
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
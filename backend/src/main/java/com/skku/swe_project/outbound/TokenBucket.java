@@ -0,0 +1,64 @@
+package com.skku.swe_project.outbound;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 ratePerSecond 개씩 채워지는 토큰 버킷 (최대 burst 개까지 쌓임).
+ * 토큰이 모자라면 다음 토큰이 생길 때까지 기다리되, 그 시간이 maxWait 를 넘으면 바로 포기.
+ */
+class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private final LongSupplier clock;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double ratePerSecond, double burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, double burst, LongSupplier clock) {
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1.0, burst);
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    /** 토큰 하나를 얻으면 true. 기다려야 하면 예약만 해두고 락 밖에서 잠 */
+    boolean acquire(long maxWaitNanos) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            waitNanos = (long) Math.ceil((1.0 - tokens) / ratePerNano);
+            if (waitNanos > maxWaitNanos) return false;
+            tokens -= 1.0; // 음수 = 앞으로 생길 토큰을 미리 예약
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+        return true;
+    }
+
+    /** acquire 로 얻은 토큰을 쓰지 못했을 때 돌려놓음 (최대 burst 까지) */
+    synchronized void refund() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1.0);
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return Math.max(0.0, tokens);
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,90 @@
+package com.skku.swe_project.photo.controller;
+
+import com.skku.swe_project.outbound.ProviderBusyException;
+import com.skku.swe_project.outbound.ProviderUnavailableException;
+import com.skku.swe_project.photo.service.PhotoBody;
+import com.skku.swe_project.photo.service.PhotoService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Optional;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PhotoController {
+
+    // 같은 photo_reference + 너비면 내용이 바뀌지 않으므로 1년 + immutable
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final PhotoService photoService;
+
+    /**
+     * Google 장소 사진 프록시. w(px) 를 주면 가장 가까운 크기의 썸네일.
+     * 디스크 캐시 파일을 먼저 연 뒤 FileChannel.transferTo 로 복사 없이 내려보냄.
+     * (Tomcat sendfile 은 응답이 끝난 뒤 경로로 파일을 다시 열어서 그 사이 LRU 삭제와 경합하므로 쓰지 않음)
+     * sig 가 맞지 않는 ref (우리가 내려준 적 없는 사진) 는 Google 을 부르지 않고 403.
+     */
+    @GetMapping("/photos/{ref}")
+    public void photo(@PathVariable("ref") String ref,
+                      @RequestParam(value = "sig", required = false) String sig,
+                      @RequestParam(value = "w", required = false) Integer width,
+                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                      HttpServletResponse response) throws IOException {
+        if (!PhotoService.isValidReference(ref)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (!photoService.isIssued(ref, sig)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        String etag = "\"" + photoService.cacheKey(ref, width) + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return;
+        }
+
+        Optional<PhotoBody> photo;
+        try {
+            photo = photoService.photo(ref, width);
+        } catch (ProviderUnavailableException | ProviderBusyException e) {
+            log.info("사진 프록시 생략: {}", e.getMessage());
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        } catch (Exception e) {
+            log.warn("❌ 사진 가져오기 실패: {}", ref, e);
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+
+        if (photo.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 파일은 이미 열려 있으므로 헤더를 쓴 뒤 LRU 가 지워도 끝까지 보낼 수 있음
+        try (PhotoBody body = photo.get()) {
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(body.size());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            body.writeTo(Channels.newChannel(response.getOutputStream()));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.skku.swe_project.photo.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 내려보낼 사진 본문.
+ * - 디스크 캐시 파일: 이미 열어 둔 FileChannel. 열린 뒤에는 LRU 가 파일을 지워도(unlink) 끝까지 읽을 수 있음
+ * - 메모리: 방금 받아서 만든 JPEG 인데 다른 요청의 저장으로 곧바로 밀려난 경우
+ */
+public final class PhotoBody implements Closeable {
+
+    private final FileChannel channel;
+    private final byte[] bytes;
+
+    private PhotoBody(FileChannel channel, byte[] bytes) {
+        this.channel = channel;
+        this.bytes = bytes;
+    }
+
+    static PhotoBody of(FileChannel channel) {
+        return new PhotoBody(channel, null);
+    }
+
+    static PhotoBody of(byte[] bytes) {
+        return new PhotoBody(null, bytes);
+    }
+
+    public long size() throws IOException {
+        return channel != null ? channel.size() : bytes.length;
+    }
+
+    /** 파일이면 transferTo (커널 복사), 메모리면 그대로 씀 */
+    public void writeTo(WritableByteChannel out) throws IOException {
+        if (channel == null) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) out.write(buffer);
+            return;
+        }
+        long size = channel.size();
+        for (long position = 0; position < size; ) {
+            position += channel.transferTo(position, size - position, out);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) channel.close();
+    }
+}
@@ -0,0 +1,208 @@
+package com.skku.swe_project.photo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 사진 파일 디스크 캐시 (전체 크기 기준 LRU).
+ * - 파일 이름 = key (PhotoService 가 만든 "해시_너비.jpg")
+ * - 사용 순서는 메모리의 access-order LinkedHashMap 으로 관리, 기동 시 파일 수정 시각 순으로 복원
+ * - photo.cache.max-bytes 를 넘으면 가장 오래 안 쓴 파일부터 삭제
+ * 인덱스는 synchronized 대신 ReentrantLock 으로 보호 (가상 스레드 pinning 방지), 락 안에서는 파일 I/O 없음.
+ */
+@Slf4j
+@Component
+public class PhotoDiskCache {
+
+    private final Path dir;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final MeterRegistry meterRegistry;
+
+    public PhotoDiskCache(Environment env, MeterRegistry meterRegistry) {
+        this.dir = Path.of(env.getProperty("photo.cache.dir", "photos"));
+        this.maxBytes = env.getProperty("photo.cache.max-bytes", Long.class, 512L * 1024 * 1024);
+        this.meterRegistry = meterRegistry;
+
+        loadIndex();
+
+        Gauge.builder("photo.cache.bytes", this, PhotoDiskCache::totalBytes)
+                .description("디스크 사진 캐시 전체 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("photo.cache.files", this, PhotoDiskCache::size)
+                .description("디스크 사진 캐시 파일 수")
+                .register(meterRegistry);
+    }
+
+    /** 캐시된 파일 (최근 사용으로 표시). 인덱스에 없거나 밖에서 지워졌으면 empty */
+    public Optional<Path> get(String key) {
+        lock.lock();
+        try {
+            if (sizes.get(key) == null) return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+
+        Path file = dir.resolve(key);
+        if (!Files.exists(file)) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * 캐시 파일을 읽기용으로 연 채널 (최근 사용으로 표시). 인덱스에 없거나 밖에서 지워졌으면 empty.
+     * 헤더를 쓰기 전에 먼저 열어 두면, 그 뒤에 LRU 가 파일을 지워도 열린 채널로는 끝까지 읽힘.
+     */
+    public Optional<FileChannel> open(String key) {
+        lock.lock();
+        try {
+            if (sizes.get(key) == null) return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            return Optional.of(FileChannel.open(dir.resolve(key), StandardOpenOption.READ));
+        } catch (NoSuchFileException e) {
+            remove(key);
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 임시 파일에 쓰고 교체한 뒤 인덱스에 추가, 한도를 넘으면 오래된 파일부터 삭제 */
+    public Path put(String key, byte[] data) throws IOException {
+        putAll(Map.of(key, data));
+        return dir.resolve(key);
+    }
+
+    /**
+     * 여러 파일(한 사진의 너비별 변형)을 한 번에 추가. 한도 정리 때 이번에 넣은 파일끼리는 서로 밀어내지 않음
+     * (800 을 쓰다가 방금 쓴 200 이 지워져서 요청한 너비가 없어지는 일이 없도록).
+     */
+    public void putAll(Map<String, byte[]> files) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            Path tmp = dir.resolve(entry.getKey() + ".tmp");
+            Files.write(tmp, entry.getValue());
+            Files.move(tmp, dir.resolve(entry.getKey()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        List<String> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+                Long previous = sizes.put(entry.getKey(), (long) entry.getValue().length);
+                totalBytes += entry.getValue().length - (previous != null ? previous : 0L);
+            }
+
+            Iterator<Map.Entry<String, Long>> it = sizes.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                if (files.containsKey(eldest.getKey())) continue; // 방금 넣은 파일은 남김
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (String old : evicted) {
+            Files.deleteIfExists(dir.resolve(old));
+        }
+        if (!evicted.isEmpty()) {
+            meterRegistry.counter("photo.cache.evictions").increment(evicted.size());
+        }
+    }
+
+    public long totalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return sizes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String key) {
+        lock.lock();
+        try {
+            Long size = sizes.remove(key);
+            if (size != null) totalBytes -= size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 기존 파일을 수정 시각 오래된 순으로 넣어서 LRU 순서 복원 (남은 .tmp 는 정리)
+    private void loadIndex() {
+        if (!Files.isDirectory(dir)) return;
+
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> sorted = files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparing(PhotoDiskCache::lastModified))
+                    .toList();
+            for (Path file : sorted) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                long size = Files.size(file);
+                sizes.put(name, size);
+                totalBytes += size;
+            }
+            log.info("🖼️ 사진 캐시 로드: {}개, {} KB ({})", sizes.size(), totalBytes / 1024, dir);
+        } catch (IOException e) {
+            log.warn("⚠️ 사진 캐시 디렉터리를 읽지 못했습니다. 빈 캐시로 시작합니다: {}", dir, e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.skku.swe_project.photo.service;
+
+import com.skku.swe_project.outbound.OutboundProvider;
+import com.skku.swe_project.outbound.ProviderGuard;
+import com.skku.swe_project.outbound.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Google Places 사진 프록시.
+ * photo_reference 하나당 Google 에서 한 번만 받아서 (가장 큰 너비) 설정된 너비별 JPEG 로 줄여 디스크 캐시에 저장한다.
+ * 이후 요청은 디스크 파일을 그대로 내려보냄 -> 브라우저에 API 키가 노출되지 않고 Google 과금도 사진당 한 번.
+ * 받아주는 ref 는 우리가 서명해서 내려준 것뿐 (PhotoSigner).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoService {
+
+    // Google photo_reference 는 URL-safe base64 비슷한 문자열
+    private static final Pattern REFERENCE = Pattern.compile("[A-Za-z0-9_-]{10,1024}");
+
+    @Value("${google.api.key}")
+    private String googleApiKey;
+
+    @Value("${google.api.base-url:https://maps.googleapis.com}")
+    private String googleBaseUrl;
+
+    // 만들어 둘 너비 (px). 요청한 w 이상인 것 중 가장 작은 것을 내려줌
+    @Value("${photo.widths:200,400,800}")
+    private int[] widths;
+
+    private final PhotoDiskCache photoDiskCache;
+    private final PhotoSigner photoSigner;
+    private final ProviderGuard providerGuard;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("googleRestTemplate")
+    private final RestTemplate restTemplate;
+
+    public static boolean isValidReference(String photoReference) {
+        return photoReference != null && REFERENCE.matcher(photoReference).matches();
+    }
+
+    /** 우리가 내려준 ref 인지 (GooglePlacesService.photoPath 가 붙인 sig 확인) */
+    public boolean isIssued(String photoReference, String signature) {
+        return isValidReference(photoReference) && photoSigner.verify(photoReference, signature);
+    }
+
+    /** 캐시 파일 이름 (ETag 로도 사용) */
+    public String cacheKey(String photoReference, Integer requestedWidth) {
+        return hash(photoReference) + "_" + variantWidth(requestedWidth) + ".jpg";
+    }
+
+    /**
+     * 사진 본문. 디스크에 없으면 Google 에서 받아 모든 너비를 만든 뒤 반환.
+     * 같은 사진을 동시에 요청하면 Google 호출은 한 번만 (single-flight).
+     * 디스크 파일은 열린 채널로 돌려주므로 그 뒤의 LRU 삭제와 경합하지 않음 (호출 측이 close).
+     * 방금 만든 파일이 다른 요청의 저장으로 바로 밀려났으면 메모리에 있는 내용을 그대로 사용.
+     * Google 에 사진이 없으면 empty.
+     */
+    public Optional<PhotoBody> photo(String photoReference, Integer requestedWidth) {
+        String key = cacheKey(photoReference, requestedWidth);
+
+        Optional<FileChannel> cached = photoDiskCache.open(key);
+        if (cached.isPresent()) {
+            meterRegistry.counter("photo.cache.requests", "result", "hit").increment();
+            return cached.map(PhotoBody::of);
+        }
+        meterRegistry.counter("photo.cache.requests", "result", "miss").increment();
+
+        Map<String, byte[]> variants = singleFlight.execute(OutboundProvider.GOOGLE, "photo", photoReference,
+                () -> fetchAndStore(photoReference));
+        Optional<FileChannel> stored = photoDiskCache.open(key);
+        if (stored.isPresent()) return stored.map(PhotoBody::of);
+
+        byte[] fresh = variants.get(key);
+        return fresh != null ? Optional.of(PhotoBody.of(fresh)) : Optional.empty();
+    }
+
+    int variantWidth(Integer requestedWidth) {
+        int[] sorted = sortedWidths();
+        if (requestedWidth == null) return sorted[sorted.length - 1];
+        for (int w : sorted) {
+            if (w >= requestedWidth) return w;
+        }
+        return sorted[sorted.length - 1];
+    }
+
+    // 너비별 JPEG (key -> 내용). 사진이 없거나 디코딩할 수 없으면 빈 Map
+    private Map<String, byte[]> fetchAndStore(String photoReference) {
+        int[] sorted = sortedWidths();
+        int largest = sorted[sorted.length - 1];
+
+        // /place/photo 는 실제 이미지로 302 리다이렉트 (HttpClient 가 따라감)
+        String url = googleBaseUrl + "/maps/api/place/photo?maxwidth={w}&photo_reference={ref}&key={key}";
+        ResponseEntity<byte[]> response = providerGuard.call(OutboundProvider.GOOGLE,
+                () -> restTemplate.getForEntity(url, byte[].class, largest, photoReference, googleApiKey));
+        byte[] body = response.getBody();
+        if (body == null || body.length == 0) return Map.of();
+
+        try {
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(body));
+            if (original == null) {
+                log.warn("⚠️ 사진 디코딩 실패: {}", photoReference);
+                return Map.of();
+            }
+
+            String hash = hash(photoReference);
+            Map<String, byte[]> variants = new LinkedHashMap<>();
+            for (int w : sorted) {
+                variants.put(hash + "_" + w + ".jpg", toJpeg(resize(original, w)));
+            }
+            photoDiskCache.putAll(variants);
+            return variants;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 너비 w 이하로 비율 유지 축소 (이미 작으면 그대로), JPEG 로 쓰기 위해 알파 채널은 버리고 RGB 로
+    static BufferedImage resize(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * (targetWidth / (double) source.getWidth())));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private int[] sortedWidths() {
+        int[] sorted = widths.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // photo_reference 는 수백 자라 파일 이름으로 쓰기엔 길어서 SHA-256 앞 16바이트
+    private static String hash(String photoReference) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(photoReference.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
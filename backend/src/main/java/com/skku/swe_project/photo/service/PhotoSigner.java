@@ -0,0 +1,64 @@
+package com.skku.swe_project.photo.service;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 사진 프록시(/api/photos/{ref}) 서명.
+ * 아무 photo_reference 나 받아주면 우리 Google 키로 과금되는 열린 프록시가 되므로,
+ * 우리가 응답에 내려준 ref 에만 HMAC(sig) 을 붙이고 PhotoController 에서 확인한다.
+ *
+ * 키는 photo.signing-key, 비어 있으면 google.api.key 에서 유도
+ * -> 재시작하거나 인스턴스가 달라도 places.image_urls 에 저장된 경로가 계속 유효.
+ */
+@Component
+public class PhotoSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // URL 에 붙는 값이라 HMAC 앞 16바이트만 (base64url 22자)
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final SecretKeySpec key;
+
+    public PhotoSigner(Environment env) {
+        String secret = env.getProperty("photo.signing-key", "");
+        if (secret.isBlank()) {
+            secret = "photo-proxy:" + env.getProperty("google.api.key", "");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String sign(String photoReference) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac(photoReference));
+    }
+
+    public boolean verify(String photoReference, String signature) {
+        if (photoReference == null || signature == null) return false;
+        byte[] given;
+        try {
+            given = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // 비교 시간으로 서명을 한 바이트씩 맞춰보지 못하도록 상수 시간 비교
+        return MessageDigest.isEqual(mac(photoReference), given);
+    }
+
+    private byte[] mac(String photoReference) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(photoReference.getBytes(StandardCharsets.UTF_8)), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
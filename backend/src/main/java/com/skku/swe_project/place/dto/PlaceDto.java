@@ -1,5 +1,7 @@
 package com.skku.swe_project.place.dto;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.skku.swe_project.place.util.JsonStringList;
 import lombok.Builder;
 import lombok.Getter;
 import java.util.List;
@@ -15,5 +17,16 @@ public class PlaceDto {
     private String category;        // 명세서: category
     private Double rating;          // 명세서: rating
     private String reviewSummary;   // 명세서: reviewSummary
-    private List<String> imageUrls; // 명세서: imageUrls (여러 장 가능)
-}
\ No newline at end of file
+
+    // 명세서: imageUrls (여러 장 가능)
+    // 항상 JsonStringList 로 들고 있다가 응답에는 JSON 배열 문자열을 그대로 씀 (DB 값은 파싱 없이 통과)
+    @JsonRawValue
+    private List<String> imageUrls;
+
+    public static class PlaceDtoBuilder {
+        public PlaceDtoBuilder imageUrls(List<String> imageUrls) {
+            this.imageUrls = JsonStringList.of(imageUrls);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.skku.swe_project.place.enrichment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 보강 작업 진행 상황 (페이지마다 파일에 저장 -> 재시작해도 lastId 다음부터 이어서 진행).
+ * lastId == null 이면 진행 중인 회차가 없음 (lastCompletedAt 기준으로 다음 회차 시작 여부 판단).
+ */
+@Slf4j
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrichmentCheckpoint {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Long lastId;            // 마지막으로 처리한 places.id (진행 중인 회차)
+    private long cycleStartedAt;    // epoch millis
+    private long lastCompletedAt;   // 마지막으로 끝까지 돈 회차의 종료 시각
+    private long processed;         // 이번 회차 누적
+    private long updated;
+    private long failed;
+
+    public boolean inProgress() {
+        return lastId != null;
+    }
+
+    EnrichmentCheckpoint startCycle(long now) {
+        return toBuilder().lastId(0L).cycleStartedAt(now).processed(0).updated(0).failed(0).build();
+    }
+
+    EnrichmentCheckpoint advance(long lastId, long processed, long updated, long failed) {
+        return toBuilder()
+                .lastId(lastId)
+                .processed(this.processed + processed)
+                .updated(this.updated + updated)
+                .failed(this.failed + failed)
+                .build();
+    }
+
+    EnrichmentCheckpoint complete(long now) {
+        return toBuilder().lastId(null).lastCompletedAt(now).build();
+    }
+
+    // 파일이 없거나 깨졌으면 처음부터
+    static EnrichmentCheckpoint load(Path path) {
+        if (!Files.exists(path)) return new EnrichmentCheckpoint();
+        try {
+            return MAPPER.readValue(path.toFile(), EnrichmentCheckpoint.class);
+        } catch (IOException e) {
+            log.warn("⚠️ 보강 체크포인트를 읽지 못했습니다. 처음부터 시작합니다: {}", path, e);
+            return new EnrichmentCheckpoint();
+        }
+    }
+
+    // 임시 파일에 쓰고 교체 -> 쓰는 도중 죽어도 기존 체크포인트는 안전
+    void save(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path tmp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        MAPPER.writeValue(tmp.toFile(), this);
+        Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
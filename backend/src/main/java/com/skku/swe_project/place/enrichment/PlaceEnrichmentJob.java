@@ -0,0 +1,316 @@
+package com.skku.swe_project.place.enrichment;
+
+import com.skku.swe_project.facade.service.OpenAiService;
+import com.skku.swe_project.food.service.GooglePlacesService;
+import com.skku.swe_project.food.service.PlaceEnrichmentCache;
+import com.skku.swe_project.place.dto.PlaceDto;
+import com.skku.swe_project.place.service.PlaceSpatialIndex;
+import com.skku.swe_project.place.service.RegionalSpotPools;
+import com.skku.swe_project.place.util.JsonStringList;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * places 테이블 보강 작업 (summary.py 대체).
+ * id 순으로 페이지 단위로 훑으면서 Google Places(rating / 리뷰 / 사진)와
+ * GPT 배치 요약(summarizeReviewsBatch)으로 rating, review_summary, image_urls 를 갱신하고 JDBC batch 로 저장한다.
+ * - 외부 호출은 요청 경로와 같은 ProviderGuard 한도를 거치고, 동시 Google 호출 수는 place.enrichment.concurrency 로 제한
+ * - 페이지마다 체크포인트 저장 -> 재시작해도 이어서 진행
+ * - 한 회차가 끝나면 place.enrichment.refresh-after-days 가 지나야 다음 회차 시작
+ * - 이미지는 비어 있는 장소만 채움 (기존 카탈로그 이미지는 유지). 저장하는 건 사진 프록시 경로 (/api/photos/..) 뿐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceEnrichmentJob {
+
+    private static final String SELECT_PAGE = """
+            SELECT id, name, address, rating, review_summary, image_url, image_urls
+            FROM places
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE = """
+            UPDATE places
+            SET rating = ?, review_summary = ?, image_url = ?, image_urls = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GooglePlacesService googlePlacesService;
+    private final OpenAiService openAiService;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final RegionalSpotPools regionalSpotPools;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("enrichmentExecutor")
+    private final Executor enrichmentExecutor;
+
+    // API 비용이 드는 작업이라 기본은 꺼 둠
+    @Value("${place.enrichment.enabled:false}")
+    private boolean enabled;
+
+    @Value("${place.enrichment.page-size:100}")
+    private int pageSize;
+
+    // 한 번 실행할 때 처리할 최대 페이지 수 (나머지는 다음 실행에서 체크포인트부터)
+    @Value("${place.enrichment.max-pages-per-run:10}")
+    private int maxPagesPerRun;
+
+    @Value("${place.enrichment.refresh-after-days:7}")
+    private long refreshAfterDays;
+
+    // 동시에 진행할 Google 조회 수 (요청 경로 몫을 남겨두도록 작게)
+    @Value("${place.enrichment.concurrency:4}")
+    private int concurrency;
+
+    // GPT 한 번에 요약할 장소 수
+    @Value("${place.enrichment.summary-batch-size:5}")
+    private int summaryBatchSize;
+
+    @Value("${place.enrichment.checkpoint-file:place-enrichment-checkpoint.json}")
+    private String checkpointFile;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** 한 번 실행 결과 (rows/sec 는 이번 실행에서 처리한 행 기준) */
+    public record RunResult(long processed, long updated, long failed, long elapsedMillis, boolean cycleCompleted) {
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? processed : processed * 1000.0 / elapsedMillis;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${place.enrichment.interval-ms:600000}",
+            initialDelayString = "${place.enrichment.initial-delay-ms:60000}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        try {
+            runOnce();
+        } catch (Exception e) {
+            log.error("❌ 장소 보강 작업 실패 (다음 실행에서 체크포인트부터 재시도)", e);
+        }
+    }
+
+    public RunResult runOnce() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            log.info("장소 보강 작업이 이미 실행 중입니다.");
+            return new RunResult(0, 0, 0, 0, false);
+        }
+
+        try {
+            Path path = Path.of(checkpointFile);
+            EnrichmentCheckpoint checkpoint = EnrichmentCheckpoint.load(path);
+            long start = System.currentTimeMillis();
+
+            if (!checkpoint.inProgress()) {
+                if (start - checkpoint.getLastCompletedAt() < TimeUnit.DAYS.toMillis(refreshAfterDays)) {
+                    return new RunResult(0, 0, 0, 0, false);
+                }
+                checkpoint = checkpoint.startCycle(start);
+                log.info("🔄 장소 보강 회차 시작");
+            }
+
+            long processed = 0, updated = 0, failed = 0;
+            boolean completed = false;
+
+            for (int page = 0; page < maxPagesPerRun; page++) {
+                List<Row> rows = loadPage(checkpoint.getLastId());
+                if (rows.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+
+                PageResult result = enrichPage(rows);
+                processed += rows.size();
+                updated += result.updated();
+                failed += result.failed();
+
+                checkpoint = checkpoint.advance(rows.get(rows.size() - 1).id(), rows.size(), result.updated(), result.failed());
+                checkpoint.save(path);
+                logProgress(checkpoint, processed, start);
+
+                if (rows.size() < pageSize) {
+                    completed = true;
+                    break;
+                }
+            }
+
+            if (completed) {
+                long cycleMillis = Math.max(1, System.currentTimeMillis() - checkpoint.getCycleStartedAt());
+                log.info("✅ 장소 보강 회차 완료: 처리 {}건, 갱신 {}건, 실패 {}건 ({} rows/s)",
+                        checkpoint.getProcessed(), checkpoint.getUpdated(), checkpoint.getFailed(),
+                        checkpoint.getProcessed() * 1000 / cycleMillis);
+                checkpoint = checkpoint.complete(System.currentTimeMillis());
+                checkpoint.save(path);
+            }
+
+            // 요청 경로(SPOT 검색)가 새 값을 쓰도록 인덱스 교체 + 예전 행으로 만든 후보 풀 폐기
+            if (updated > 0) {
+                placeSpatialIndex.reload();
+                regionalSpotPools.invalidateAll();
+            }
+
+            return new RunResult(processed, updated, failed, System.currentTimeMillis() - start, completed);
+
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // =====================================================
+    // 페이지 단위 보강
+    // =====================================================
+
+    record Row(long id, String name, String address, Float rating, String reviewSummary,
+               String imageUrl, List<String> imageUrls) {
+    }
+
+    private record PageResult(long updated, long failed) {
+    }
+
+    private List<Row> loadPage(long afterId) {
+        return jdbcTemplate.query(SELECT_PAGE, (rs, i) -> {
+            float r = rs.getFloat("rating");
+            Float rating = rs.wasNull() ? null : r;
+            String rawUrls = rs.getString("image_urls");
+            return new Row(rs.getLong("id"), rs.getString("name"), rs.getString("address"), rating,
+                    rs.getString("review_summary"), rs.getString("image_url"),
+                    rawUrls != null ? JsonStringList.fromJson(rawUrls) : List.of());
+        }, afterId, pageSize);
+    }
+
+    private PageResult enrichPage(List<Row> rows) {
+        // 1. Google details (동시 concurrency 개)
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        List<CompletableFuture<PlaceEnrichmentCache.Entry>> futures = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return googlePlacesService.fetchDetailsWithoutSummary(PlaceDto.builder()
+                            .name(row.name())
+                            .address(row.address())
+                            .build());
+                } finally {
+                    permits.release();
+                }
+            }, enrichmentExecutor));
+        }
+
+        long failed = 0;
+        PlaceEnrichmentCache.Entry[] details = new PlaceEnrichmentCache.Entry[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                details[i] = futures.get(i).join();
+            } catch (Exception e) {
+                failed++;
+                log.info("장소 보강 생략: {} ({})", rows.get(i).name(), e.getMessage());
+            }
+        }
+
+        // 2. 리뷰가 있는 장소만 summary-batch-size 개씩 묶어서 GPT 요약
+        String[] summaries = summarize(rows, details);
+
+        // 3. 바뀐 행만 batch update
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] params = updateParams(rows.get(i), details[i], summaries[i]);
+            if (params != null) batch.add(params);
+        }
+        if (!batch.isEmpty()) {
+            int[] types = {Types.FLOAT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT};
+            jdbcTemplate.batchUpdate(UPDATE, batch, types);
+        }
+
+        meterRegistry.counter("place.enrichment.rows", "result", "updated").increment(batch.size());
+        meterRegistry.counter("place.enrichment.rows", "result", "unchanged")
+                .increment(rows.size() - batch.size() - failed);
+        meterRegistry.counter("place.enrichment.rows", "result", "failed").increment(failed);
+        return new PageResult(batch.size(), failed);
+    }
+
+    private String[] summarize(List<Row> rows, PlaceEnrichmentCache.Entry[] details) {
+        String[] summaries = new String[rows.size()];
+
+        List<Integer> withReviews = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (details[i] != null && details[i].getReviewTexts() != null && !details[i].getReviewTexts().isEmpty()) {
+                withReviews.add(i);
+            }
+        }
+
+        int chunkSize = Math.max(1, summaryBatchSize);
+        for (int from = 0; from < withReviews.size(); from += chunkSize) {
+            List<Integer> chunk = withReviews.subList(from, Math.min(from + chunkSize, withReviews.size()));
+            List<OpenAiService.ReviewSet> sets = chunk.stream()
+                    .map(i -> new OpenAiService.ReviewSet(rows.get(i).name(), details[i].getReviewTexts()))
+                    .toList();
+            try {
+                List<String> result = openAiService.summarizeReviewsBatch(sets);
+                for (int n = 0; n < chunk.size(); n++) {
+                    // 실패 안내 문구는 저장하지 않음 (기존 요약 유지, 다음 회차에 다시 시도)
+                    if (!OpenAiService.isFallbackReply(result.get(n))) summaries[chunk.get(n)] = result.get(n);
+                }
+            } catch (Exception e) {
+                log.info("리뷰 요약 생략: {}건 ({})", chunk.size(), e.getMessage());
+            }
+        }
+        return summaries;
+    }
+
+    /** 바뀐 값이 있으면 UPDATE 파라미터, 없으면 null */
+    static Object[] updateParams(Row row, PlaceEnrichmentCache.Entry detail, String summary,
+                                 Function<String, String> photoUrl) {
+        if (detail == null) return null;
+
+        Float rating = detail.getRating() != null ? detail.getRating().floatValue() : row.rating();
+        String reviewSummary = summary != null ? summary : row.reviewSummary();
+
+        String imageUrl = row.imageUrl();
+        List<String> imageUrls = row.imageUrls();
+        if (imageUrls.isEmpty() && detail.getPhotoReferences() != null && !detail.getPhotoReferences().isEmpty()) {
+            imageUrls = detail.getPhotoReferences().stream().map(photoUrl).toList();
+            if (imageUrl == null || imageUrl.isBlank()) imageUrl = imageUrls.get(0);
+        }
+
+        boolean changed = !Objects.equals(rating, row.rating())
+                || !Objects.equals(reviewSummary, row.reviewSummary())
+                || !Objects.equals(imageUrl, row.imageUrl())
+                || !imageUrls.equals(row.imageUrls());
+        if (!changed) return null;
+
+        return new Object[]{rating, reviewSummary, imageUrl, JsonStringList.of(imageUrls).json(), row.id()};
+    }
+
+    private Object[] updateParams(Row row, PlaceEnrichmentCache.Entry detail, String summary) {
+        return updateParams(row, detail, summary, googlePlacesService::photoPath);
+    }
+
+    private static void logProgress(EnrichmentCheckpoint checkpoint, long processed, long start) {
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log.info("🔄 장소 보강 중... id {}까지, 이번 실행 {}건 ({} rows/s), 회차 누적 갱신 {}건 / 실패 {}건",
+                checkpoint.getLastId(), processed, processed * 1000 / elapsed,
+                checkpoint.getUpdated(), checkpoint.getFailed());
+    }
+}
@@ -0,0 +1,45 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.dto.PlaceDto;
+
+import java.util.Collection;
+
+/** DB 에서 읽은 Place 엔티티 목록을 PlaceRows 로 감쌈 */
+final class EntityPlaceRows implements PlaceRows {
+
+    private final Place[] places;
+    private final double[] lat;
+    private final double[] lng;
+
+    EntityPlaceRows(Collection<Place> source) {
+        this.places = source.toArray(new Place[0]);
+        this.lat = new double[places.length];
+        this.lng = new double[places.length];
+        for (int i = 0; i < places.length; i++) {
+            Place p = places[i];
+            lat[i] = p.getLatitude() != null ? p.getLatitude() : Double.NaN;
+            lng[i] = p.getLongitude() != null ? p.getLongitude() : Double.NaN;
+        }
+    }
+
+    @Override
+    public int size() {
+        return places.length;
+    }
+
+    @Override
+    public double latitude(int row) {
+        return lat[row];
+    }
+
+    @Override
+    public double longitude(int row) {
+        return lng[row];
+    }
+
+    @Override
+    public PlaceDto toDto(int row) {
+        return SpotService.convertToDto(places[row]);
+    }
+}
@@ -0,0 +1,20 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.place.dto.PlaceDto;
+
+/**
+ * PlaceSpatialIndex 가 읽는 장소 데이터 (row 번호로 접근).
+ * - JPA 엔티티 목록 (DB 에서 읽은 Place)
+ * - 메모리 매핑된 스냅샷 파일 (PlaceSnapshot)
+ * 좌표가 없으면 NaN.
+ */
+public interface PlaceRows {
+
+    int size();
+
+    double latitude(int row);
+
+    double longitude(int row);
+
+    PlaceDto toDto(int row);
+}
@@ -0,0 +1,306 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.dto.PlaceDto;
+import com.skku.swe_project.place.repository.PlaceRepository;
+import com.skku.swe_project.place.snapshot.PlaceSnapshot;
+import com.skku.swe_project.place.snapshot.PlaceSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * places 테이블 전체를 메모리에 올려두고 위도/경도 격자(grid) 버킷으로 나눠둔 공간 인덱스.
+ * 매 요청마다 ST_Distance_Sphere 로 전체 테이블을 훑는 대신,
+ * 주변 셀만 골라서 haversine 거리로 필터/정렬한다.
+ * 스냅샷 파일(place.snapshot.file)이 있으면 DB 대신 메모리 매핑된 스냅샷을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndex {
+
+    // MariaDB ST_Distance_Sphere 의 기본 지구 반지름(m)과 동일하게 맞춤
+    static final double EARTH_RADIUS_M = 6_370_986.0;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_M / 180.0;
+
+    // 셀 한 칸 = 0.01도 (위도 기준 약 1.1km)
+    static final double DEFAULT_CELL_DEGREES = 0.01;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceSnapshotStore placeSnapshotStore;
+
+    // 재빌드 시 통째로 교체 (읽는 쪽은 락 없이 사용)
+    private volatile Grid grid = Grid.EMPTY;
+
+    /**
+     * DB/스냅샷 없이 rebuild(..) 로만 채워 쓰는 인덱스 (테스트, JMH 벤치마크용).
+     * loadOnStartup / reload 는 쓸 수 없음.
+     */
+    public static PlaceSpatialIndex detached() {
+        return new PlaceSpatialIndex(null, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            long start = System.nanoTime();
+            Optional<PlaceSnapshot> snapshot = placeSnapshotStore.open();
+            if (snapshot.isPresent()) {
+                rebuild(snapshot.get());
+            } else {
+                rebuild(placeRepository.findAll());
+            }
+            log.info("🗺️ PlaceSpatialIndex 로드 완료: {}개, 출처={} ({}ms)",
+                    size(), snapshot.isPresent() ? "snapshot" : "db", (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            // 인덱스가 비어 있으면 SpotService 가 기존 네이티브 쿼리로 대체함
+            log.error("❌ PlaceSpatialIndex 로드 실패 - DB 쿼리로 대체합니다.", e);
+        }
+    }
+
+    /** places 테이블이 바뀐 뒤 인덱스를 새 데이터로 교체 (실패하면 기존 인덱스 유지) */
+    public void reload() {
+        try {
+            Optional<PlaceSnapshot> snapshot = placeSnapshotStore.reopen();
+            if (snapshot.isPresent()) {
+                rebuild(snapshot.get());
+            } else {
+                rebuild(placeRepository.findAll());
+            }
+            log.info("🗺️ PlaceSpatialIndex 다시 로드: {}개", size());
+        } catch (Exception e) {
+            log.error("❌ PlaceSpatialIndex 다시 로드 실패 - 기존 인덱스를 유지합니다.", e);
+        }
+    }
+
+    public void rebuild(Collection<Place> places) {
+        rebuild(new EntityPlaceRows(places));
+    }
+
+    public void rebuild(PlaceRows rows) {
+        this.grid = Grid.build(rows, DEFAULT_CELL_DEGREES);
+    }
+
+    public boolean isReady() {
+        return grid.size() > 0;
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    /**
+     * 반경 radiusMeters 이내의 장소를 가까운 순으로 최대 limit 개 반환.
+     * (PlaceRepository.findPlacesByLocation 과 같은 의미)
+     */
+    public List<PlaceDto> findWithinRadius(double lat, double lng, double radiusMeters, int limit) {
+        Grid g = this.grid;
+        TopK top = new TopK(limit);
+        if (g.size() == 0 || limit <= 0) return top.toDtos(g);
+
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        double lngSpan = latSpan / Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+
+        int minLatCell = g.cellOf(lat - latSpan);
+        int maxLatCell = g.cellOf(lat + latSpan);
+        int minLngCell = g.cellOf(lng - lngSpan);
+        int maxLngCell = g.cellOf(lng + lngSpan);
+
+        for (int la = minLatCell; la <= maxLatCell; la++) {
+            for (int lo = minLngCell; lo <= maxLngCell; lo++) {
+                int[] rows = g.cells.get(Grid.key(la, lo));
+                if (rows == null) continue;
+                for (int row : rows) {
+                    double d = haversine(lat, lng, g.rows.latitude(row), g.rows.longitude(row));
+                    if (d <= radiusMeters) top.offer(row, d);
+                }
+            }
+        }
+        return top.toDtos(g);
+    }
+
+    /**
+     * 거리 제한 없이 가장 가까운 k 개 장소를 반환.
+     * 중심 셀부터 고리(ring) 단위로 넓혀가며, 더 먼 셀에 더 가까운 점이 있을 수 없으면 멈춘다.
+     */
+    public List<PlaceDto> findNearest(double lat, double lng, int k) {
+        Grid g = this.grid;
+        TopK top = new TopK(k);
+        if (g.size() == 0 || k <= 0) return top.toDtos(g);
+
+        int centerLat = g.cellOf(lat);
+        int centerLng = g.cellOf(lng);
+        int maxRing = Math.max(
+                Math.max(Math.abs(centerLat - g.minLatCell), Math.abs(g.maxLatCell - centerLat)),
+                Math.max(Math.abs(centerLng - g.minLngCell), Math.abs(g.maxLngCell - centerLng)));
+
+        // ring 칸 만큼 떨어진 셀까지 봤을 때 "확실히 다 본" 거리 (경도 방향이 더 짧으므로 cos 보정)
+        double cellMeters = g.cellDegrees * METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int la = centerLat - ring; la <= centerLat + ring; la++) {
+                boolean edgeRow = (la == centerLat - ring || la == centerLat + ring);
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int lo = centerLng - ring; lo <= centerLng + ring; lo += Math.max(step, 1)) {
+                    int[] rows = g.cells.get(Grid.key(la, lo));
+                    if (rows == null) continue;
+                    for (int row : rows) {
+                        top.offer(row, haversine(lat, lng, g.rows.latitude(row), g.rows.longitude(row)));
+                    }
+                }
+            }
+            if (top.isFull() && top.worstDistance() <= ring * cellMeters) break;
+        }
+        return top.toDtos(g);
+    }
+
+    static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // =====================================================
+    // 내부 자료구조
+    // =====================================================
+
+    /** 한 번 만들면 바뀌지 않는 격자 (row 번호는 PlaceRows 기준) */
+    static final class Grid {
+
+        static final Grid EMPTY = new Grid(new EntityPlaceRows(List.of()), 0,
+                Map.of(), DEFAULT_CELL_DEGREES, 0, 0, 0, 0);
+
+        final PlaceRows rows;
+        final int indexed; // 좌표가 있어서 셀에 들어간 row 수
+        final Map<Long, int[]> cells;
+        final double cellDegrees;
+        final int minLatCell, maxLatCell, minLngCell, maxLngCell;
+
+        private Grid(PlaceRows rows, int indexed, Map<Long, int[]> cells, double cellDegrees,
+                     int minLatCell, int maxLatCell, int minLngCell, int maxLngCell) {
+            this.rows = rows;
+            this.indexed = indexed;
+            this.cells = cells;
+            this.cellDegrees = cellDegrees;
+            this.minLatCell = minLatCell;
+            this.maxLatCell = maxLatCell;
+            this.minLngCell = minLngCell;
+            this.maxLngCell = maxLngCell;
+        }
+
+        static Grid build(PlaceRows rows, double cellDegrees) {
+            int n = rows.size();
+            long[] keys = new long[n];
+            boolean[] valid = new boolean[n];
+            Map<Long, int[]> counts = new HashMap<>();
+            int indexed = 0;
+
+            int minLa = Integer.MAX_VALUE, maxLa = Integer.MIN_VALUE;
+            int minLo = Integer.MAX_VALUE, maxLo = Integer.MIN_VALUE;
+
+            // 1차: 셀별 개수 세기 (좌표 없는 장소는 인덱스에서 제외)
+            for (int i = 0; i < n; i++) {
+                double lat = rows.latitude(i);
+                double lng = rows.longitude(i);
+                if (Double.isNaN(lat) || Double.isNaN(lng)) continue;
+
+                int la = (int) Math.floor(lat / cellDegrees);
+                int lo = (int) Math.floor(lng / cellDegrees);
+                minLa = Math.min(minLa, la);
+                maxLa = Math.max(maxLa, la);
+                minLo = Math.min(minLo, lo);
+                maxLo = Math.max(maxLo, lo);
+                keys[i] = key(la, lo);
+                valid[i] = true;
+                indexed++;
+                counts.computeIfAbsent(keys[i], k -> new int[1])[0]++;
+            }
+
+            if (indexed == 0) return EMPTY;
+
+            // 2차: 셀별 row 배열 채우기
+            Map<Long, int[]> cells = new HashMap<>(counts.size() * 2);
+            Map<Long, int[]> cursor = new HashMap<>(counts.size() * 2);
+            counts.forEach((k, c) -> {
+                cells.put(k, new int[c[0]]);
+                cursor.put(k, new int[1]);
+            });
+            for (int i = 0; i < n; i++) {
+                if (!valid[i]) continue;
+                int[] pos = cursor.get(keys[i]);
+                cells.get(keys[i])[pos[0]++] = i;
+            }
+
+            return new Grid(rows, indexed, cells, cellDegrees, minLa, maxLa, minLo, maxLo);
+        }
+
+        static long key(int latCell, int lngCell) {
+            return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+        }
+
+        int cellOf(double degrees) {
+            return (int) Math.floor(degrees / cellDegrees);
+        }
+
+        int size() {
+            return indexed;
+        }
+    }
+
+    /** 거리 오름차순으로 상위 k 개만 유지하는 작은 버퍼 (k 가 작아서 삽입 정렬로 충분) */
+    static final class TopK {
+        private final int[] rows;
+        private final double[] dists;
+        private int count;
+
+        TopK(int k) {
+            int capacity = Math.max(k, 0);
+            this.rows = new int[capacity];
+            this.dists = new double[capacity];
+        }
+
+        void offer(int row, double dist) {
+            if (rows.length == 0) return;
+            if (count == rows.length) {
+                if (dist >= dists[count - 1]) return;
+                count--; // 가장 먼 것 탈락
+            }
+            int i = count - 1;
+            while (i >= 0 && dists[i] > dist) {
+                rows[i + 1] = rows[i];
+                dists[i + 1] = dists[i];
+                i--;
+            }
+            rows[i + 1] = row;
+            dists[i + 1] = dist;
+            count++;
+        }
+
+        boolean isFull() {
+            return count == rows.length;
+        }
+
+        double worstDistance() {
+            return count == 0 ? Double.MAX_VALUE : dists[count - 1];
+        }
+
+        List<PlaceDto> toDtos(Grid g) {
+            List<PlaceDto> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) result.add(g.rows.toDto(rows[i]));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.facade.service.KakaoMapService;
+import com.skku.swe_project.facade.service.LocationGazetteer;
+import com.skku.swe_project.place.dto.PlaceDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 지역별로 미리 만들어 둔 명소 후보 풀 (완성된 PlaceDto 배열).
+ * - 대상 지역: spot.pools.regions (기본값은 LocationGazetteer 의 지역 사전)
+ *              + 풀이 없는데 spot.pools.promote-after 번 이상 요청된 지역 (최대 spot.pools.max-regions 개)
+ * - 갱신: SpotService.refreshRegionalPools() 가 주기적으로 통째로 다시 만들어서 교체
+ * - 요청 경로에서는 배열을 그대로 읽기만 함 (복사/정렬/해시 계산 없음)
+ * 명소 후보의 유일한 캐시 계층이기도 함 - SPOT/COURSE 의 약한 ETag 도 여기 저장된 version 으로 만든다.
+ * key 는 KakaoMapService.normalizeLocation 으로 정규화한 지역명.
+ */
+@Component
+public class RegionalSpotPools {
+
+    /** 한 지역의 후보 풀. candidates 는 만든 뒤 바뀌지 않음, version 은 만들 때 계산한 내용 해시 (ETag 용) */
+    record Pool(PlaceDto[] candidates, String version, long builtAt, LongAdder hits) {
+
+        SpotCandidates view() {
+            return new SpotCandidates(Collections.unmodifiableList(Arrays.asList(candidates)), version);
+        }
+    }
+
+    private static final int MAX_COLD_TRACKED = 10_000;
+
+    private final boolean enabled;
+    private final int promoteAfter;
+    private final int maxRegions;
+    private final long idleEvictMillis;
+
+    private final Set<String> seedRegions;
+    private final Set<String> promotedRegions = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Pool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> coldCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> lastRequested = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RegionalSpotPools(Environment env, LocationGazetteer locationGazetteer, MeterRegistry meterRegistry) {
+        this.enabled = env.getProperty("spot.pools.enabled", Boolean.class, true);
+        this.promoteAfter = env.getProperty("spot.pools.promote-after", Integer.class, 3);
+        this.maxRegions = env.getProperty("spot.pools.max-regions", Integer.class, 300);
+        this.idleEvictMillis = TimeUnit.MINUTES.toMillis(
+                env.getProperty("spot.pools.idle-evict-minutes", Long.class, 1440L));
+
+        String[] configured = env.getProperty("spot.pools.regions", String[].class);
+        List<String> regions = configured != null && configured.length > 0
+                ? Arrays.asList(configured)
+                : locationGazetteer.knownAreas();
+        Set<String> seeds = new LinkedHashSet<>();
+        for (String region : regions) {
+            String key = KakaoMapService.normalizeLocation(region);
+            if (!key.isEmpty()) seeds.add(key);
+        }
+        this.seedRegions = Collections.unmodifiableSet(seeds);
+
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("spot.pool.regions", pools, ConcurrentHashMap::size)
+                .description("미리 만들어 둔 지역별 명소 후보 풀 개수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 풀이 있으면 그 뷰를, 없으면 empty (-> 호출 측이 실시간 조회) */
+    public Optional<SpotCandidates> find(String location) {
+        if (!enabled) return Optional.empty();
+
+        String key = KakaoMapService.normalizeLocation(location);
+        Pool pool = pools.get(key);
+        if (pool == null) {
+            meterRegistry.counter("spot.pool.requests", "result", "cold").increment();
+            return Optional.empty();
+        }
+
+        pool.hits().increment();
+        lastRequested.put(key, System.currentTimeMillis());
+        meterRegistry.counter("spot.pool.requests", "result", "hit").increment();
+        return Optional.of(pool.view());
+    }
+
+    /**
+     * 풀이 없어서 실시간 조회한 결과를 알려줌.
+     * 대상 지역이면 바로 풀로 저장하고, 아니면 요청 횟수를 세다가 promote-after 번째에 대상 지역으로 올림.
+     */
+    public void offerLiveResult(String location, SpotCandidates candidates) {
+        if (!enabled) return;
+
+        String key = KakaoMapService.normalizeLocation(location);
+        if (key.isEmpty()) return;
+        lastRequested.put(key, System.currentTimeMillis());
+
+        if (!isTracked(key)) {
+            if (coldCounts.size() >= MAX_COLD_TRACKED) coldCounts.clear(); // 한 번씩만 나오는 지역명이 쌓이지 않도록
+            LongAdder count = coldCounts.computeIfAbsent(key, k -> new LongAdder());
+            count.increment();
+            if (count.sum() < promoteAfter || pools.size() >= maxRegions) return;
+
+            promotedRegions.add(key);
+            coldCounts.remove(key);
+        }
+        store(key, candidates);
+    }
+
+    /** 갱신 대상 지역 (기본 지역 + 요청이 많아 올라온 지역) */
+    public Set<String> regionsToRefresh() {
+        Set<String> regions = new LinkedHashSet<>(seedRegions);
+        regions.addAll(promotedRegions);
+        return regions;
+    }
+
+    /**
+     * 새로 만든 후보로 교체.
+     * 빈 결과는 저장하지 않고 이전 풀도 그대로 둠 (카카오 일시 오류/한도 초과로 좌표를 못 찾은 경우일 수 있음).
+     * 풀을 지우는 건 remove / invalidateAll 로만.
+     */
+    public void put(String region, List<PlaceDto> candidates) {
+        if (candidates == null || candidates.isEmpty()) return;
+        store(KakaoMapService.normalizeLocation(region), SpotCandidates.of(candidates));
+    }
+
+    private void store(String key, SpotCandidates candidates) {
+        if (candidates.isEmpty()) return;
+        Pool previous = pools.get(key);
+        LongAdder hits = previous != null ? previous.hits() : new LongAdder();
+        pools.put(key, new Pool(candidates.places().toArray(new PlaceDto[0]), candidates.version(),
+                System.currentTimeMillis(), hits));
+    }
+
+    /** 지역 풀 하나를 명시적으로 폐기 (다음 요청은 실시간 조회) */
+    public void remove(String region) {
+        pools.remove(KakaoMapService.normalizeLocation(region));
+    }
+
+    /**
+     * 카탈로그(places)가 바뀌었을 때 모든 풀을 비움. 갱신 대상 지역은 그대로 두므로
+     * 다음 요청이 실시간 조회 결과로 바로 다시 채운다 (offerLiveResult).
+     */
+    public void invalidateAll() {
+        pools.clear();
+    }
+
+    /**
+     * 요청에서 올라온 지역 중 오래 안 쓰인 곳은 풀과 함께 정리 (기본 지역은 유지).
+     * 풀 없이 세기만 하던 지역 카운트도 이때 비움.
+     */
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleEvictMillis;
+        promotedRegions.removeIf(region -> {
+            boolean idle = lastRequested.getOrDefault(region, 0L) < cutoff;
+            if (idle) {
+                pools.remove(region);
+                lastRequested.remove(region);
+            }
+            return idle;
+        });
+        coldCounts.clear();
+        lastRequested.keySet().removeIf(region -> !isTracked(region));
+    }
+
+    public int size() {
+        return pools.size();
+    }
+
+    private boolean isTracked(String key) {
+        return seedRegions.contains(key) || promotedRegions.contains(key);
+    }
+}
@@ -0,0 +1,21 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.facade.service.RecommendationCache;
+import com.skku.swe_project.place.dto.PlaceDto;
+
+import java.util.List;
+
+/**
+ * 한 지역의 명소 후보 (최대 30개) + 내용 해시(version).
+ * version 은 SPOT/COURSE 응답의 약한 ETag 재료 - 지역 풀(RegionalSpotPools)은 풀을 만들 때 한 번만 계산해 둔다.
+ */
+public record SpotCandidates(List<PlaceDto> places, String version) {
+
+    public static SpotCandidates of(List<PlaceDto> places) {
+        return new SpotCandidates(places, RecommendationCache.contentHash(places, null));
+    }
+
+    public boolean isEmpty() {
+        return places.isEmpty();
+    }
+}
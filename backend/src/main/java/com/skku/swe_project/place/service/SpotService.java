@@ -1,55 +1,153 @@
 package com.skku.swe_project.place.service;
 
 import com.skku.swe_project.facade.service.KakaoMapService;
+import com.skku.swe_project.metrics.RequestTrace;
 import com.skku.swe_project.place.domain.Place;
 import com.skku.swe_project.place.dto.PlaceDto;
 import com.skku.swe_project.place.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SpotService {
 
     private final PlaceRepository placeRepository;
     private final KakaoMapService kakaoMapService;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final RegionalSpotPools regionalSpotPools;
+
+    private static final int SEARCH_RADIUS_METERS = 2000; // 반경 2km
+    private static final int CANDIDATE_LIMIT = 30;         // ⭐️ limit를 5 -> 30으로 늘림 (풀을 넓게 잡음)
+    private static final int PICK_COUNT = 5;
 
     public List<PlaceDto> findSpots(String location) {
+        return pickSpots(findCandidates(location).places());
+    }
+
+    /**
+     * 지역명 -> 좌표 -> 반경 내 후보 장소(최대 30개, 응답용 DTO) + ETag 용 version.
+     * DateCourseService 가 의도 분석(LLM)과 병렬로 미리 실행해 둘 수 있도록 따로 분리.
+     * 인기 지역은 미리 만들어 둔 풀(RegionalSpotPools)을 그대로 돌려주고, 나머지만 실시간으로 조회.
+     */
+    public SpotCandidates findCandidates(String location) {
+        Optional<SpotCandidates> pooled = regionalSpotPools.find(location);
+        if (pooled.isPresent()) {
+            return pooled.get();
+        }
+
+        SpotCandidates candidates = SpotCandidates.of(lookupCandidates(location));
+        regionalSpotPools.offerLiveResult(location, candidates);
+        return candidates;
+    }
+
+    /**
+     * 지역별 후보 풀 주기 갱신 (기본 10분).
+     * 지역 하나가 실패해도 나머지는 계속 진행하고, 실패한 지역은 이전 풀을 그대로 둠.
+     * 좌표/후보를 못 찾은 경우(빈 결과)도 실패로 봄 - 카카오 일시 오류나 회로 차단 중이어도 null 이 올 수 있음.
+     */
+    @Scheduled(fixedDelayString = "${spot.pools.refresh-interval-ms:600000}",
+            initialDelayString = "${spot.pools.initial-delay-ms:10000}")
+    public void refreshRegionalPools() {
+        if (!regionalSpotPools.isEnabled()) return;
+
+        long start = System.currentTimeMillis();
+        int refreshed = 0;
+        for (String region : regionalSpotPools.regionsToRefresh()) {
+            try {
+                List<PlaceDto> candidates = lookupCandidates(region);
+                if (candidates.isEmpty()) {
+                    log.info("지역 후보 풀 갱신 생략 (빈 결과, 이전 풀 유지): {}", region);
+                    continue;
+                }
+                regionalSpotPools.put(region, candidates);
+                refreshed++;
+            } catch (Exception e) {
+                log.warn("⚠️ 지역 후보 풀 갱신 실패: {} ({})", region, e.getMessage());
+            }
+        }
+        regionalSpotPools.evictIdle();
+        log.info("🗺️ 지역 후보 풀 갱신: {}개 지역, 풀 {}개 ({}ms)",
+                refreshed, regionalSpotPools.size(), System.currentTimeMillis() - start);
+    }
+
+    private List<PlaceDto> lookupCandidates(String location) {
         // 1. 카카오 API로 좌표 구하기
-        KakaoMapService.CoordinateDto coordinate = kakaoMapService.searchCoordinate(location);
+        KakaoMapService.CoordinateDto coordinate =
+                RequestTrace.stage("geocode", () -> kakaoMapService.searchCoordinate(location));
 
         // 2. 좌표를 못 찾았으면 -> 빈 리스트
         if (coordinate == null) {
             return List.of();
         }
 
-        // 2. 진짜 좌표로 DB 검색
+        // 2. 진짜 좌표로 주변 장소 검색
         // ⭐️ 핵심 변경 1: 5개(limit)만 가져오지 말고, 넉넉하게 20~30개를 가져옵니다.
-        List<Place> places = placeRepository.findPlacesByLocation(
-                coordinate.getLongitude(),
-                coordinate.getLatitude(),
-                2000, // 반경 2km
-                30    // ⭐️ limit를 5 -> 30으로 늘림 (풀을 넓게 잡음)
-        );
-
-        // ⭐️ 핵심 변경 2: 가져온 리스트를 무작위로 섞습니다.
-        Collections.shuffle(places);
-
-        // ⭐️ 핵심 변경 3: 섞은 것 중에서 앞에서부터 5개만 자릅니다.
-        // (장소가 30개보다 적을 수도 있으니 Math.min 사용)
-        int pickCount = Math.min(places.size(), 5);
-        List<Place> randomPicks = places.subList(0, pickCount);
-
-        // 4. DTO 변환
-        return randomPicks.stream().map(this::convertToDto).collect(Collectors.toList());
+        return RequestTrace.stage("spatial_query",
+                () -> findNearby(coordinate.getLatitude(), coordinate.getLongitude()));
+    }
+
+    /**
+     * 후보 중 무작위 5개 (순서도 무작위).
+     * 후보 리스트(풀과 공유될 수 있음)는 건드리지 않고, 전체를 복사/셔플하는 대신
+     * Floyd 샘플링으로 인덱스 k 개만 뽑은 뒤 그 k 개만 섞는다 -> O(k).
+     */
+    public static List<PlaceDto> pickSpots(List<PlaceDto> candidates) {
+        List<PlaceDto> source = candidates instanceof RandomAccess ? candidates : new ArrayList<>(candidates);
+        int n = source.size();
+        int k = Math.min(n, PICK_COUNT);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Floyd: j = n-k .. n-1 마다 [0, j] 에서 하나 뽑고, 이미 뽑힌 값이면 j 를 씀 -> 중복 없는 균등 샘플
+        int[] picked = new int[k];
+        for (int j = n - k, count = 0; j < n; j++, count++) {
+            int t = random.nextInt(j + 1);
+            picked[count] = contains(picked, count, t) ? j : t;
+        }
+
+        // 뽑힌 k 개의 순서 섞기 (Fisher-Yates)
+        for (int i = k - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            int tmp = picked[i];
+            picked[i] = picked[swap];
+            picked[swap] = tmp;
+        }
+
+        List<PlaceDto> spots = new ArrayList<>(k);
+        for (int index : picked) spots.add(source.get(index));
+        return spots;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    // 메모리 공간 인덱스(DB 또는 스냅샷 기반)가 준비돼 있으면 그걸로, 아니면 기존 DB 공간 쿼리로 검색
+    private List<PlaceDto> findNearby(double latitude, double longitude) {
+        if (placeSpatialIndex.isReady()) {
+            return placeSpatialIndex.findWithinRadius(latitude, longitude, SEARCH_RADIUS_METERS, CANDIDATE_LIMIT);
+        }
+        return placeRepository.findPlacesByLocation(longitude, latitude, SEARCH_RADIUS_METERS, CANDIDATE_LIMIT)
+                .stream()
+                .map(SpotService::convertToDto)
+                .collect(Collectors.toList());
     }
 
-    private PlaceDto convertToDto(Place place) {
+    // EntityPlaceRows, JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    static PlaceDto convertToDto(Place place) {
         return PlaceDto.builder()
                 .id(place.getId())
                 .name(place.getName())
@@ -0,0 +1,195 @@
+package com.skku.swe_project.place.snapshot;
+
+import com.skku.swe_project.place.dto.PlaceDto;
+import com.skku.swe_project.place.service.PlaceRows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 메모리 매핑된 장소 스냅샷 (읽기 전용).
+ * 좌표/평점은 매핑된 버퍼에서 바로 읽고(힙 복사 없음), 문자열은 DTO 를 만들 때만 디코딩한다.
+ */
+public final class PlaceSnapshot implements PlaceRows {
+
+    private final int count;
+    private final LongBuffer ids;
+    private final DoubleBuffer latitudes;
+    private final DoubleBuffer longitudes;
+    private final FloatBuffer ratings;
+    private final IntBuffer[] strings = new IntBuffer[PlaceSnapshotFormat.STRING_COLUMNS];
+    private final IntBuffer urlStarts;
+    private final IntBuffer urlRefs;
+    private final IntBuffer stringOffsets;
+    private final ByteBuffer blob;
+
+    private PlaceSnapshot(ByteBuffer mapped) throws IOException {
+        ByteBuffer buf = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.capacity() < PlaceSnapshotFormat.HEADER_BYTES
+                || buf.getInt(0) != PlaceSnapshotFormat.MAGIC) {
+            throw new IOException("장소 스냅샷 파일이 아닙니다");
+        }
+        if (buf.getInt(4) != PlaceSnapshotFormat.VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전: " + buf.getInt(4));
+        }
+
+        this.count = buf.getInt(8);
+        int stringCount = buf.getInt(12);
+        int urlRefCount = buf.getInt(16);
+        long blobBytes = buf.getLong(24);
+        PlaceSnapshotFormat.Layout layout =
+                new PlaceSnapshotFormat.Layout(count, stringCount, urlRefCount, blobBytes);
+        if (layout.totalBytes != buf.capacity()) {
+            throw new IOException("스냅샷 크기가 맞지 않습니다 (손상됨?)");
+        }
+
+        this.ids = slice(buf, layout.ids, 8L * count).asLongBuffer();
+        this.latitudes = slice(buf, layout.latitudes, 8L * count).asDoubleBuffer();
+        this.longitudes = slice(buf, layout.longitudes, 8L * count).asDoubleBuffer();
+        this.ratings = slice(buf, layout.ratings, 4L * count).asFloatBuffer();
+        for (int c = 0; c < PlaceSnapshotFormat.STRING_COLUMNS; c++) {
+            strings[c] = slice(buf, layout.strings[c], 4L * count).asIntBuffer();
+        }
+        this.urlStarts = slice(buf, layout.urlStarts, 4L * (count + 1)).asIntBuffer();
+        this.urlRefs = slice(buf, layout.urlRefs, 4L * urlRefCount).asIntBuffer();
+        this.stringOffsets = slice(buf, layout.stringOffsets, 4L * (stringCount + 1)).asIntBuffer();
+        this.blob = slice(buf, layout.blob, blobBytes);
+    }
+
+    public static PlaceSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷이 2GB 를 넘습니다: " + file);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PlaceSnapshot(mapped);
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public double latitude(int row) {
+        return latitudes.get(row);
+    }
+
+    @Override
+    public double longitude(int row) {
+        return longitudes.get(row);
+    }
+
+    public Long id(int row) {
+        long id = ids.get(row);
+        return id == PlaceSnapshotFormat.NO_ID ? null : id;
+    }
+
+    public Double rating(int row) {
+        float rating = ratings.get(row);
+        return Float.isNaN(rating) ? null : (double) rating;
+    }
+
+    public String name(int row) {
+        return string(PlaceSnapshotFormat.NAME, row);
+    }
+
+    public String category(int row) {
+        return string(PlaceSnapshotFormat.CATEGORY, row);
+    }
+
+    public String address(int row) {
+        return string(PlaceSnapshotFormat.ADDRESS, row);
+    }
+
+    public String reviewSummary(int row) {
+        return string(PlaceSnapshotFormat.REVIEW_SUMMARY, row);
+    }
+
+    public String imageUrl(int row) {
+        return string(PlaceSnapshotFormat.IMAGE_URL, row);
+    }
+
+    public String kakaoId(int row) {
+        return string(PlaceSnapshotFormat.KAKAO_ID, row);
+    }
+
+    /** row 의 이미지 URL 목록 (원소를 읽을 때 디코딩하는 뷰) */
+    public List<String> imageUrls(int row) {
+        return new UrlList(urlStarts.get(row), urlStarts.get(row + 1));
+    }
+
+    /** SpotService.convertToDto 와 같은 규칙 (평점 없으면 0.0, 이미지 없으면 빈 리스트) */
+    @Override
+    public PlaceDto toDto(int row) {
+        Double rating = rating(row);
+        return PlaceDto.builder()
+                .id(id(row))
+                .name(name(row))
+                .address(address(row))
+                .latitude(nullIfNaN(latitude(row)))
+                .longitude(nullIfNaN(longitude(row)))
+                .category(category(row))
+                .rating(rating != null ? rating : 0.0)
+                .reviewSummary(reviewSummary(row))
+                .imageUrls(imageUrls(row))
+                .build();
+    }
+
+    private String string(int column, int row) {
+        return dictionary(strings[column].get(row));
+    }
+
+    private String dictionary(int index) {
+        if (index == PlaceSnapshotFormat.NO_STRING) return null;
+        int from = stringOffsets.get(index);
+        int to = stringOffsets.get(index + 1);
+        byte[] bytes = new byte[to - from];
+        blob.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buf, long offset, long length) {
+        return buf.slice((int) offset, (int) length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static Double nullIfNaN(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private final class UrlList extends AbstractList<String> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        UrlList(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(index);
+            return dictionary(urlRefs.get(from + index));
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
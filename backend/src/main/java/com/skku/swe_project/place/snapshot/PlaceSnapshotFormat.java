@@ -0,0 +1,81 @@
+package com.skku.swe_project.place.snapshot;
+
+/**
+ * 장소 스냅샷 파일 레이아웃 (little-endian, 모든 섹션 8바이트 정렬).
+ *
+ * <pre>
+ * header (64B)  magic, version, count, stringCount, urlRefCount, (reserved), blobBytes
+ * long   id[count]              DB id, 없으면 NO_ID
+ * double latitude[count]        없으면 NaN
+ * double longitude[count]       없으면 NaN
+ * float  rating[count]          없으면 NaN
+ * int    name/category/address/reviewSummary/imageUrl/kakaoId[count]   문자열 사전 번호, 없으면 -1
+ * int    urlStart[count + 1]    row i 의 이미지 URL = urlRefs[urlStart[i] .. urlStart[i+1])
+ * int    urlRefs[urlRefCount]   문자열 사전 번호
+ * int    stringOffset[stringCount + 1]   blob 안의 UTF-8 바이트 범위
+ * byte   blob[blobBytes]
+ * </pre>
+ */
+final class PlaceSnapshotFormat {
+
+    static final int MAGIC = 0x504C534E; // "PLSN"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    static final long NO_ID = Long.MIN_VALUE;
+    static final int NO_STRING = -1;
+
+    // 문자열 컬럼 순서
+    static final int NAME = 0;
+    static final int CATEGORY = 1;
+    static final int ADDRESS = 2;
+    static final int REVIEW_SUMMARY = 3;
+    static final int IMAGE_URL = 4;
+    static final int KAKAO_ID = 5;
+    static final int STRING_COLUMNS = 6;
+
+    private PlaceSnapshotFormat() {
+    }
+
+    static long align8(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    /** 섹션 시작 위치 계산 (writer / reader 공용) */
+    static final class Layout {
+        final long ids;
+        final long latitudes;
+        final long longitudes;
+        final long ratings;
+        final long[] strings = new long[STRING_COLUMNS];
+        final long urlStarts;
+        final long urlRefs;
+        final long stringOffsets;
+        final long blob;
+        final long totalBytes;
+
+        Layout(int count, int stringCount, int urlRefCount, long blobBytes) {
+            long pos = HEADER_BYTES;
+            ids = pos;
+            pos = align8(pos + 8L * count);
+            latitudes = pos;
+            pos = align8(pos + 8L * count);
+            longitudes = pos;
+            pos = align8(pos + 8L * count);
+            ratings = pos;
+            pos = align8(pos + 4L * count);
+            for (int c = 0; c < STRING_COLUMNS; c++) {
+                strings[c] = pos;
+                pos = align8(pos + 4L * count);
+            }
+            urlStarts = pos;
+            pos = align8(pos + 4L * (count + 1));
+            urlRefs = pos;
+            pos = align8(pos + 4L * urlRefCount);
+            stringOffsets = pos;
+            pos = align8(pos + 4L * (stringCount + 1));
+            blob = pos;
+            totalBytes = pos + blobBytes;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.skku.swe_project.place.snapshot;
+
+import com.skku.swe_project.place.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 장소 스냅샷 파일 관리.
+ * - place.snapshot.file 이 비어 있으면 사용 안 함 (기존처럼 DB 에서 로드)
+ * - 파일이 없거나 place.snapshot.rebuild-on-startup=true 면 places 테이블에서 새로 생성
+ * - place.snapshot.source 는 "db" 만 서빙에 허용. JSON 으로 만든 스냅샷은 DB id 가 없어서
+ *   /api/route 의 placeIds, 코스 요약 캐시 key 가 깨지고, 보강 작업이 DB 에 쓴 값도 반영되지 않음
+ *   -> 다른 값이면 경고 후 스냅샷 없이 DB 에서 로드 (JSON 스냅샷은 PlaceSnapshotWriter.writeFromJson 으로 오프라인 전용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSnapshotStore {
+
+    private final PlaceRepository placeRepository;
+
+    @Value("${place.snapshot.file:}")
+    private String snapshotFile;
+
+    @Value("${place.snapshot.source:db}")
+    private String source;
+
+    @Value("${place.snapshot.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public boolean isEnabled() {
+        return snapshotFile != null && !snapshotFile.isBlank();
+    }
+
+    /** 스냅샷을 (필요하면 만들어서) 매핑해 반환. 실패하면 empty -> 호출 측이 DB 로 대체 */
+    public Optional<PlaceSnapshot> open() {
+        if (!isEnabled()) return Optional.empty();
+        if (!"db".equalsIgnoreCase(source)) {
+            log.warn("⚠️ place.snapshot.source={} 는 서빙에 쓸 수 없습니다 (DB id 없음, 보강 결과 미반영) "
+                    + "- 스냅샷 없이 DB 에서 로드합니다. source=db 로 설정하세요", source);
+            return Optional.empty();
+        }
+
+        Path path = Path.of(snapshotFile);
+        try {
+            if (rebuildOnStartup || !Files.exists(path)) {
+                rebuild();
+            }
+            long start = System.nanoTime();
+            PlaceSnapshot snapshot = PlaceSnapshot.open(path);
+            log.info("💾 장소 스냅샷 매핑: {}개, {} KB ({}ms)", snapshot.size(),
+                    Files.size(path) / 1024, (System.nanoTime() - start) / 1_000_000);
+            return Optional.of(snapshot);
+        } catch (Exception e) {
+            log.error("❌ 장소 스냅샷을 열지 못했습니다 - DB 로 대체합니다: {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /** DB 가 바뀐 뒤 (PlaceEnrichmentJob 등) 스냅샷을 새로 만들어 다시 매핑 */
+    public Optional<PlaceSnapshot> reopen() {
+        if (!isEnabled() || !"db".equalsIgnoreCase(source)) return Optional.empty();
+
+        Path path = Path.of(snapshotFile);
+        try {
+            rebuild();
+            return Optional.of(PlaceSnapshot.open(path));
+        } catch (Exception e) {
+            log.error("❌ 장소 스냅샷을 다시 열지 못했습니다 - DB 로 대체합니다: {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /** places 테이블로 스냅샷 파일을 새로 생성 (매핑 중인 기존 파일은 교체 전까지 유효) */
+    public void rebuild() throws IOException {
+        Path path = Path.of(snapshotFile);
+        long start = System.currentTimeMillis();
+
+        var places = placeRepository.findAll();
+        PlaceSnapshotWriter.write(path, places);
+
+        log.info("💾 장소 스냅샷 생성: {}개 -> {} ({} ms)", places.size(), path, System.currentTimeMillis() - start);
+    }
+}
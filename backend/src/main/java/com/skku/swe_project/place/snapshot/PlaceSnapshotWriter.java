@@ -0,0 +1,168 @@
+package com.skku.swe_project.place.snapshot;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.util.PlaceJsonReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소 데이터를 컬럼 단위 바이너리 스냅샷으로 저장 (레이아웃은 PlaceSnapshotFormat).
+ * 같은 문자열(카테고리, 주소 등)은 사전에 한 번만 저장.
+ */
+public final class PlaceSnapshotWriter {
+
+    private long[] ids = new long[1024];
+    private double[] latitudes = new double[1024];
+    private double[] longitudes = new double[1024];
+    private float[] ratings = new float[1024];
+    private final int[][] strings = new int[PlaceSnapshotFormat.STRING_COLUMNS][1024];
+    private int[] urlStarts = new int[1025];
+    private int[] urlRefs = new int[1024];
+    private int count;
+    private int urlRefCount;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private int[] stringOffsets = new int[1025];
+    private final ByteArrayOutputStream blob = new ByteArrayOutputStream();
+
+    /** DB 엔티티 목록으로 스냅샷 생성 */
+    public static void write(Path file, List<Place> places) throws IOException {
+        PlaceSnapshotWriter writer = new PlaceSnapshotWriter();
+        for (Place p : places) {
+            writer.add(p.getId(), p.getLatitude(), p.getLongitude(), p.getRating(),
+                    p.getName(), p.getCategory(), p.getAddress(), p.getReviewSummary(),
+                    p.getImageUrl(), p.getKakaoId(), p.getImageUrls());
+        }
+        writer.writeTo(file);
+    }
+
+    /**
+     * final_data_with_reviews.json 형식으로 스냅샷 생성 (벤치마크/오프라인 분석용).
+     * DB id 가 없어서 모든 행이 NO_ID -> PlaceDto.id 가 null 이므로 서빙에는 쓰지 않음 (PlaceSnapshotStore 는 db 만 허용)
+     */
+    public static long writeFromJson(Path file, InputStream json) throws IOException {
+        PlaceSnapshotWriter writer = new PlaceSnapshotWriter();
+        long rows = PlaceJsonReader.read(json, row -> writer.add(null, row.latitude(), row.longitude(), row.rating(),
+                row.name(), row.category(), row.address(), row.reviewSummary(),
+                row.imageUrl(), row.kakaoId(), row.imageUrls()));
+        writer.writeTo(file);
+        return rows;
+    }
+
+    void add(Long id, Double latitude, Double longitude, Float rating,
+             String name, String category, String address, String reviewSummary,
+             String imageUrl, String kakaoId, List<String> imageUrls) {
+        ensureCapacity(count + 1);
+        ids[count] = id != null ? id : PlaceSnapshotFormat.NO_ID;
+        latitudes[count] = latitude != null ? latitude : Double.NaN;
+        longitudes[count] = longitude != null ? longitude : Double.NaN;
+        ratings[count] = rating != null ? rating : Float.NaN;
+        strings[PlaceSnapshotFormat.NAME][count] = intern(name);
+        strings[PlaceSnapshotFormat.CATEGORY][count] = intern(category);
+        strings[PlaceSnapshotFormat.ADDRESS][count] = intern(address);
+        strings[PlaceSnapshotFormat.REVIEW_SUMMARY][count] = intern(reviewSummary);
+        strings[PlaceSnapshotFormat.IMAGE_URL][count] = intern(imageUrl);
+        strings[PlaceSnapshotFormat.KAKAO_ID][count] = intern(kakaoId);
+
+        urlStarts[count] = urlRefCount;
+        if (imageUrls != null) {
+            for (String url : imageUrls) {
+                if (urlRefCount == urlRefs.length) urlRefs = Arrays.copyOf(urlRefs, urlRefs.length * 2);
+                urlRefs[urlRefCount++] = intern(url);
+            }
+        }
+        count++;
+        urlStarts[count] = urlRefCount;
+    }
+
+    void writeTo(Path file) throws IOException {
+        int stringCount = dictionary.size();
+        byte[] blobBytes = blob.toByteArray();
+        PlaceSnapshotFormat.Layout layout =
+                new PlaceSnapshotFormat.Layout(count, stringCount, urlRefCount, blobBytes.length);
+        if (layout.totalBytes > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷이 2GB 를 넘습니다: " + layout.totalBytes + " bytes");
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate((int) layout.totalBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(0, PlaceSnapshotFormat.MAGIC);
+        buf.putInt(4, PlaceSnapshotFormat.VERSION);
+        buf.putInt(8, count);
+        buf.putInt(12, stringCount);
+        buf.putInt(16, urlRefCount);
+        buf.putLong(24, blobBytes.length);
+
+        for (int i = 0; i < count; i++) {
+            buf.putLong((int) (layout.ids + 8L * i), ids[i]);
+            buf.putDouble((int) (layout.latitudes + 8L * i), latitudes[i]);
+            buf.putDouble((int) (layout.longitudes + 8L * i), longitudes[i]);
+            buf.putFloat((int) (layout.ratings + 4L * i), ratings[i]);
+            for (int c = 0; c < PlaceSnapshotFormat.STRING_COLUMNS; c++) {
+                buf.putInt((int) (layout.strings[c] + 4L * i), strings[c][i]);
+            }
+        }
+        for (int i = 0; i <= count; i++) {
+            buf.putInt((int) (layout.urlStarts + 4L * i), urlStarts[i]);
+        }
+        for (int i = 0; i < urlRefCount; i++) {
+            buf.putInt((int) (layout.urlRefs + 4L * i), urlRefs[i]);
+        }
+        for (int i = 0; i <= stringCount; i++) {
+            buf.putInt((int) (layout.stringOffsets + 4L * i), stringOffsets[i]);
+        }
+        buf.put((int) layout.blob, blobBytes);
+
+        // 임시 파일에 쓰고 교체 -> 매핑 중인 기존 파일은 그대로 유효
+        Path absolute = file.toAbsolutePath();
+        if (absolute.getParent() != null) Files.createDirectories(absolute.getParent());
+        Path tmp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            buf.rewind();
+            while (buf.hasRemaining()) channel.write(buf);
+            channel.force(true);
+        }
+        Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private int intern(String value) {
+        if (value == null) return PlaceSnapshotFormat.NO_STRING;
+        Integer existing = dictionary.get(value);
+        if (existing != null) return existing;
+
+        int index = dictionary.size();
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        blob.writeBytes(bytes);
+        if (index + 2 > stringOffsets.length) stringOffsets = Arrays.copyOf(stringOffsets, stringOffsets.length * 2);
+        stringOffsets[index + 1] = blob.size();
+        dictionary.put(value, index);
+        return index;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed < ids.length) return;
+        int size = ids.length * 2;
+        ids = Arrays.copyOf(ids, size);
+        latitudes = Arrays.copyOf(latitudes, size);
+        longitudes = Arrays.copyOf(longitudes, size);
+        ratings = Arrays.copyOf(ratings, size);
+        for (int c = 0; c < PlaceSnapshotFormat.STRING_COLUMNS; c++) {
+            strings[c] = Arrays.copyOf(strings[c], size);
+        }
+        urlStarts = Arrays.copyOf(urlStarts, size + 1);
+    }
+}
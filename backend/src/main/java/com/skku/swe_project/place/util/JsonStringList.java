@@ -0,0 +1,113 @@
+package com.skku.swe_project.place.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * JSON 배열 문자열(예: image_urls 컬럼)을 들고 있다가, 실제로 원소를 읽을 때만 파싱하는 읽기 전용 리스트.
+ * - DB 에서 30개를 읽어도 응답에 쓰이는 5개만 파싱됨
+ * - toString() 은 원본 JSON 그대로 -> PlaceDto 의 @JsonRawValue 로 재인코딩 없이 응답에 실림
+ * - 단, 응답에 raw 로 실리므로 JSON 배열이 아닌 값(null, 깨진 문자열)은 "[]" 로 대체 (응답 JSON 이 깨지지 않도록)
+ */
+public final class JsonStringList extends AbstractList<String> implements RandomAccess {
+
+    // 스레드 안전한 재사용 reader/writer (요청마다 TypeReference 를 새로 만들지 않도록)
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // 배열 뒤에 뭔가 더 붙은 값도 깨진 값으로 봄 (raw 로 응답에 실리므로)
+    static final ObjectReader READER = MAPPER.readerFor(new TypeReference<List<String>>() {})
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    static final ObjectWriter WRITER = MAPPER.writerFor(new TypeReference<List<String>>() {});
+
+    private static final JsonStringList EMPTY = new JsonStringList("[]", Collections.emptyList());
+
+    private final String json;
+    private volatile List<String> decoded;
+    // 파싱해 보니 배열이 아니었음 -> toString() 은 "[]"
+    private volatile boolean malformed;
+
+    private JsonStringList(String json, List<String> decoded) {
+        this.json = json;
+        this.decoded = decoded;
+    }
+
+    /** DB 에서 읽은 JSON 문자열 (파싱은 처음 읽을 때, '[' 로 시작하지 않으면 바로 빈 리스트) */
+    public static JsonStringList fromJson(String json) {
+        if (json == null || !json.stripLeading().startsWith("[")) return EMPTY;
+        return new JsonStringList(json, null);
+    }
+
+    /** 일반 리스트를 감싸서 JSON 문자열을 미리 만들어 둠 (이미 JsonStringList 면 그대로) */
+    public static JsonStringList of(List<String> values) {
+        if (values == null) return null;
+        if (values instanceof JsonStringList list) return list;
+        if (values.isEmpty()) return EMPTY;
+        try {
+            return new JsonStringList(WRITER.writeValueAsString(values), List.copyOf(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error converting list to JSON", e);
+        }
+    }
+
+    public String json() {
+        return json;
+    }
+
+    public boolean isDecoded() {
+        return decoded != null;
+    }
+
+    @Override
+    public String get(int index) {
+        return values().get(index);
+    }
+
+    @Override
+    public int size() {
+        return values().size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        // 둘 다 JSON 이 같으면 파싱 없이 같다고 판단 (Hibernate dirty check 등)
+        if (o instanceof JsonStringList other && json.equals(other.json)) return true;
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        // 응답에 raw 로 실리기 전에 한 번은 파싱해서 배열인지 확인 (결과는 캐시되어 이후 get() 에 재사용)
+        values();
+        return malformed ? EMPTY.json : json;
+    }
+
+    private List<String> values() {
+        List<String> values = decoded;
+        if (values == null) {
+            try {
+                List<String> parsed = READER.readValue(json);
+                values = parsed != null ? Collections.unmodifiableList(parsed) : Collections.emptyList();
+            } catch (IOException e) {
+                // 깨진 DB 값 하나 때문에 장소 응답 전체가 실패하지 않도록 빈 리스트로 취급
+                malformed = true;
+                values = Collections.emptyList();
+            }
+            decoded = values;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,281 @@
+package com.skku.swe_project.place.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * final_data_with_reviews.json -> places 테이블 적재 (upload_script.py 대체).
+ * - PlaceJsonReader(Jackson 스트리밍 파서)로 한 건씩 읽음 (파일 전체를 메모리에 올리지 않음)
+ * - JDBC batch + ON DUPLICATE KEY UPDATE (kakao_id 기준)
+ * - DB 에 이미 같은 내용이 있는 행은 체크섬 비교로 건너뜀
+ *
+ * 실행 방법
+ * - 기동 시: place.loader.on-startup=true (place.loader.source 경로 사용)
+ * - CLI   : java -jar app.jar --load-places[=파일경로]  (적재 후 종료)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceDataLoader implements ApplicationRunner {
+
+    static final String CLI_OPTION = "load-places";
+
+    private static final String SELECT_EXISTING = """
+            SELECT kakao_id, serial_number, name, category, address, review_summary,
+                   latitude, longitude, rating, image_url, image_urls
+            FROM places
+            WHERE kakao_id IS NOT NULL
+            """;
+
+    private static final String UPSERT = """
+            INSERT INTO places (
+                kakao_id, serial_number, name, category, address, review_summary,
+                latitude, longitude, rating, image_url, image_urls
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                serial_number = VALUES(serial_number),
+                name = VALUES(name),
+                category = VALUES(category),
+                address = VALUES(address),
+                review_summary = VALUES(review_summary),
+                latitude = VALUES(latitude),
+                longitude = VALUES(longitude),
+                rating = VALUES(rating),
+                image_url = VALUES(image_url),
+                image_urls = VALUES(image_urls)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceLoader resourceLoader;
+    private final ApplicationContext applicationContext;
+
+    @Value("${place.loader.on-startup:false}")
+    private boolean loadOnStartup;
+
+    @Value("${place.loader.source:classpath:final_data_with_reviews.json}")
+    private String defaultSource;
+
+    @Value("${place.loader.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (args.containsOption(CLI_OPTION)) {
+            List<String> values = args.getOptionValues(CLI_OPTION);
+            String source = (values == null || values.isEmpty() || values.get(0).isBlank())
+                    ? defaultSource
+                    : values.get(0);
+
+            int exitCode;
+            try {
+                load(source);
+                exitCode = 0;
+            } catch (Exception e) {
+                log.error("❌ 장소 데이터 적재 실패: {}", source, e);
+                exitCode = 1;
+            }
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+
+        if (loadOnStartup) {
+            load(defaultSource);
+        }
+    }
+
+    /** 적재 결과 (rows/sec 는 파일에서 읽은 행 기준) */
+    public record LoadResult(long read, long written, long unchanged, long invalid, long elapsedMillis) {
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? read : read * 1000.0 / elapsedMillis;
+        }
+    }
+
+    private static final class Counters {
+        long read, written, unchanged, invalid;
+    }
+
+    public LoadResult load(String location) throws IOException {
+        long start = System.currentTimeMillis();
+        Map<String, Long> existing = loadExistingChecksums();
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        Resource resource = resourceLoader.getResource(
+                location.startsWith("classpath:") || location.startsWith("file:") ? location : "file:" + location);
+
+        log.info("📦 장소 데이터 적재 시작: {} (DB 기존 {}건)", location, existing.size());
+
+        Counters c = new Counters();
+        try (InputStream in = resource.getInputStream()) {
+            PlaceJsonReader.read(in, json -> {
+                PlaceRow row = PlaceRow.of(json);
+                c.read++;
+
+                if (row.kakaoId() == null || row.kakaoId().isBlank() || row.name() == null) {
+                    c.invalid++; // kakao_id 없으면 upsert 기준이 없어서 매번 중복 삽입되므로 제외
+                    return;
+                }
+
+                long checksum = row.checksum();
+                Long previous = existing.put(row.kakaoId(), checksum);
+                if (previous != null && previous == checksum) {
+                    c.unchanged++;
+                    return;
+                }
+
+                batch.add(row.toParams());
+                if (batch.size() >= batchSize) {
+                    c.written += flush(batch);
+                }
+
+                if (c.read % 10_000 == 0) {
+                    logProgress(c.read, start);
+                }
+            });
+        }
+        c.written += flush(batch);
+
+        LoadResult result = new LoadResult(c.read, c.written, c.unchanged, c.invalid,
+                System.currentTimeMillis() - start);
+        log.info("✅ 장소 데이터 적재 완료: 읽음 {}건, 반영 {}건, 변경 없음 {}건, 제외 {}건, {} ms ({} rows/s)",
+                result.read(), result.written(), result.unchanged(), result.invalid(),
+                result.elapsedMillis(), String.format("%.0f", result.rowsPerSecond()));
+        return result;
+    }
+
+    // =====================================================
+    // DB
+    // =====================================================
+
+    private Map<String, Long> loadExistingChecksums() {
+        Map<String, Long> checksums = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(SELECT_EXISTING,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(1_000);
+            return statement;
+        }, rs -> {
+            PlaceRow row = PlaceRow.from(rs);
+            checksums.put(row.kakaoId(), row.checksum());
+        });
+        return checksums;
+    }
+
+    private long flush(List<Object[]> batch) {
+        if (batch.isEmpty()) return 0;
+        int[] types = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.DOUBLE, Types.DOUBLE, Types.FLOAT, Types.VARCHAR, Types.VARCHAR};
+        jdbcTemplate.batchUpdate(UPSERT, batch, types);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private static void logProgress(long read, long start) {
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log.info("📦 적재 중... {}건 ({} rows/s)", read, read * 1000 / elapsed);
+    }
+
+    // =====================================================
+    // 행 + 체크섬
+    // =====================================================
+
+    private record PlaceRow(String kakaoId, String serialNumber, String name, String category, String address,
+                            String reviewSummary, Double latitude, Double longitude, Float rating,
+                            String imageUrl, List<String> imageUrls) {
+
+        static PlaceRow of(PlaceJsonReader.Row json) {
+            return new PlaceRow(json.kakaoId(), json.serialNumber(), json.name(), json.category(), json.address(),
+                    json.reviewSummary(), json.latitude(), json.longitude(), json.rating(),
+                    json.imageUrl(), json.imageUrls());
+        }
+
+        static PlaceRow from(ResultSet rs) throws SQLException {
+            double lat = rs.getDouble("latitude");
+            Double latitude = rs.wasNull() ? null : lat;
+            double lng = rs.getDouble("longitude");
+            Double longitude = rs.wasNull() ? null : lng;
+            float r = rs.getFloat("rating");
+            Float rating = rs.wasNull() ? null : r;
+
+            String rawUrls = rs.getString("image_urls");
+            List<String> imageUrls;
+            try {
+                imageUrls = rawUrls != null ? JsonStringList.READER.readValue(rawUrls) : List.of();
+            } catch (IOException e) {
+                imageUrls = List.of(rawUrls); // 깨진 값이면 체크섬이 달라져서 다시 쓰게 됨
+            }
+
+            return new PlaceRow(rs.getString("kakao_id"), rs.getString("serial_number"),
+                    rs.getString("name"), rs.getString("category"), rs.getString("address"),
+                    rs.getString("review_summary"), latitude, longitude, rating,
+                    rs.getString("image_url"), imageUrls);
+        }
+
+        Object[] toParams() throws IOException {
+            return new Object[]{kakaoId, serialNumber, name, category, address, reviewSummary,
+                    latitude, longitude, rating, imageUrl, JsonStringList.WRITER.writeValueAsString(imageUrls)};
+        }
+
+        // 컬럼 값 기준 SHA-256 앞 8바이트 (JSON 포맷/이스케이프 차이와 무관하도록 image_urls 는 원소 단위로)
+        long checksum() {
+            MessageDigest digest = sha256();
+            for (String s : new String[]{serialNumber, name, category, address, reviewSummary, imageUrl}) {
+                update(digest, s);
+            }
+            ByteBuffer numbers = ByteBuffer.allocate(8 + 8 + 4 + 3);
+            numbers.putDouble(latitude != null ? latitude : Double.NaN);
+            numbers.putDouble(longitude != null ? longitude : Double.NaN);
+            numbers.putFloat(rating != null ? rating : Float.NaN);
+            numbers.put((byte) (latitude != null ? 1 : 0));
+            numbers.put((byte) (longitude != null ? 1 : 0));
+            numbers.put((byte) (rating != null ? 1 : 0));
+            digest.update(numbers.array());
+            for (String url : imageUrls) {
+                update(digest, url);
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        }
+
+        private static void update(MessageDigest digest, String value) {
+            if (value == null) {
+                digest.update((byte) 0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) 1);
+            digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.skku.swe_project.place.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * final_data_with_reviews.json 형식 스트리밍 리더.
+ * 배열 원소(장소) 하나를 읽을 때마다 handler 로 넘기고 버림 -> 파일 크기와 무관하게 메모리 일정.
+ * (PlaceDataLoader 의 DB 적재, PlaceSnapshotWriter 의 스냅샷 생성에서 공용)
+ */
+public final class PlaceJsonReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private PlaceJsonReader() {
+    }
+
+    /** JSON 장소 한 건 (DB places 컬럼 기준) */
+    public record Row(String kakaoId, String serialNumber, String name, String category, String address,
+                      String reviewSummary, Double latitude, Double longitude, Float rating,
+                      String imageUrl, List<String> imageUrls) {
+    }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void accept(Row row) throws IOException;
+    }
+
+    /** @return 읽은 행 수 */
+    public static long read(InputStream in, RowHandler handler) throws IOException {
+        long count = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 배열 형식이 아닙니다");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                handler.accept(readRow(parser));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Row readRow(JsonParser parser) throws IOException {
+        String kakaoId = null, serialNumber = null, name = null, category = null, address = null;
+        String reviewSummary = null, imageUrl = null;
+        Double latitude = null, longitude = null;
+        Float rating = null;
+        List<String> imageUrls = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "kakao_id" -> kakaoId = text(parser, value);
+                case "serial_number" -> serialNumber = text(parser, value);
+                case "name" -> name = text(parser, value);
+                case "category" -> category = text(parser, value);
+                case "address" -> address = text(parser, value);
+                case "reviewSummary" -> reviewSummary = text(parser, value);
+                case "image_url" -> imageUrl = text(parser, value);
+                case "latitude" -> latitude = value.isNumeric() ? parser.getDoubleValue() : null;
+                case "longitude" -> longitude = value.isNumeric() ? parser.getDoubleValue() : null;
+                case "rating" -> rating = value.isNumeric() ? parser.getFloatValue() : null;
+                case "imageUrls" -> imageUrls = readStringArray(parser, value);
+                default -> parser.skipChildren(); // description 등 DB 에 없는 필드
+            }
+        }
+
+        return new Row(kakaoId, serialNumber, name, category, address,
+                reviewSummary != null ? reviewSummary : "", // upload_script.py 와 동일하게 빈 문자열
+                latitude, longitude, rating, imageUrl,
+                imageUrls != null ? imageUrls : List.of());
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) return null;
+        if (value.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static List<String> readStringArray(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                values.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return values;
+    }
+}
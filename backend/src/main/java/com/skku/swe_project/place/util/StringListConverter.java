@@ -1,25 +1,22 @@
 package com.skku.swe_project.place.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
-import java.io.IOException;
 import java.util.List;
 
 @Converter
 public class StringListConverter implements AttributeConverter<List<String>, String> {
 
-    private final ObjectMapper mapper = new ObjectMapper();
-
     @Override
     public String convertToDatabaseColumn(List<String> attribute) {
         // 자바 리스트 -> DB JSON 문자열로 변환
         if (attribute == null) return null;
+        // DB 에서 읽은 그대로라면 원본 JSON 을 다시 쓰기만 함 (재인코딩 X)
+        if (attribute instanceof JsonStringList list) return list.json();
         try {
-            return mapper.writeValueAsString(attribute);
+            return JsonStringList.WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("Error converting list to JSON", e);
         }
@@ -27,12 +24,8 @@ public class StringListConverter implements AttributeConverter<List<String>, Str
 
     @Override
     public List<String> convertToEntityAttribute(String dbData) {
-        // DB JSON 문자열 -> 자바 리스트로 변환
+        // DB JSON 문자열 -> 자바 리스트로 변환 (실제 파싱은 원소를 처음 읽을 때)
         if (dbData == null) return null;
-        try {
-            return mapper.readValue(dbData, new TypeReference<List<String>>() {});
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Error converting JSON to list", e);
-        }
+        return JsonStringList.fromJson(dbData);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.skku.swe_project.route.controller;
+
+import com.skku.swe_project.route.dto.RouteRequest;
+import com.skku.swe_project.route.dto.RouteResponse;
+import com.skku.swe_project.route.service.CourseRouteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class RouteController {
+
+    private final CourseRouteService courseRouteService;
+
+    /**
+     * 코스 장소 방문 순서 + 구간별 도보 거리/시간.
+     * 장소 쌍마다 길찾기를 호출하지 않고 이 한 번으로 순서를 정한 뒤, 필요한 구간만 길찾기로 그리면 된다.
+     */
+    @PostMapping("/route")
+    public ResponseEntity<RouteResponse> planRoute(@RequestBody RouteRequest request) {
+        try {
+            return ResponseEntity.ok(courseRouteService.plan(request));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(failure(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("❌ 경로 계산 에러 발생: ", e);
+            return ResponseEntity.internalServerError().body(failure("서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    private static RouteResponse failure(String reason) {
+        return RouteResponse.builder()
+                .message("FAIL: " + reason)
+                .stops(List.of())
+                .legs(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.skku.swe_project.route.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteRequest {
+
+    private List<Long> placeIds;    // 추천 응답의 PlaceDto.id (places 테이블)
+    private List<Stop> places;      // id 가 없는 장소 (카카오 검색으로 나온 맛집 등) -> 좌표를 직접 전달
+    private boolean fixStart;       // true 면 첫 번째 장소(placeIds -> places 순)를 출발지로 고정
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stop {
+        private Long id;
+        private String name;
+        private Double latitude;
+        private Double longitude;
+    }
+}
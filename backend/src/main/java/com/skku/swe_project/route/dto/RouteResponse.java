@@ -0,0 +1,27 @@
+package com.skku.swe_project.route.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteResponse {
+    private String message;
+    private List<RouteRequest.Stop> stops; // 방문 순서대로 정렬된 장소
+    private List<Leg> legs;                // stops[i] -> stops[i + 1] 구간
+    private long totalDistanceMeters;
+    private long totalDurationSeconds;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Leg {
+        private int from;                  // stops 인덱스
+        private int to;
+        private long distanceMeters;       // 도보 추정 거리 (직선 거리 x 우회 계수)
+        private long durationSeconds;      // 도보 추정 시간
+    }
+}
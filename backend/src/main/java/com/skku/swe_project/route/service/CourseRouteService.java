@@ -0,0 +1,129 @@
+package com.skku.swe_project.route.service;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.repository.PlaceRepository;
+import com.skku.swe_project.route.dto.RouteRequest;
+import com.skku.swe_project.route.dto.RouteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 코스 장소들의 방문 순서를 서버에서 한 번에 계산.
+ * 프론트가 장소 쌍마다 카카오 길찾기를 부르는 대신 (N^2 번),
+ * haversine 직선 거리 x 우회 계수로 도보 거리/시간 행렬을 만들고 RouteOptimizer 로 순서를 정한다.
+ * 구간 거리는 캐싱하지 않음 - 최대 20개 장소면 190번의 haversine 이라 캐시 key 를 만드는 비용이 더 큼.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseRouteService {
+
+    // MariaDB ST_Distance_Sphere / PlaceSpatialIndex 와 같은 지구 반지름(m)
+    private static final double EARTH_RADIUS_M = 6_370_986.0;
+
+    private final PlaceRepository placeRepository;
+
+    // 프론트(routeApi.ts)의 도보 속도와 맞춤 (약 4.5 km/h)
+    @Value("${route.walk.speed-mps:1.25}")
+    private double walkSpeedMps;
+
+    // 직선 거리 -> 실제 도보 거리 보정 (도로망 우회)
+    @Value("${route.walk.detour-factor:1.3}")
+    private double detourFactor;
+
+    @Value("${route.max-stops:20}")
+    private int maxStops;
+
+    public RouteResponse plan(RouteRequest request) {
+        // DB 조회 전에 개수부터 확인 (placeIds 를 수천 개 보내서 findAllById 를 키우지 못하도록)
+        int requested = size(request.getPlaceIds()) + size(request.getPlaces());
+        if (requested > maxStops) {
+            throw new IllegalArgumentException("장소는 최대 " + maxStops + "개까지 가능합니다: " + requested);
+        }
+        List<RouteRequest.Stop> stops = resolveStops(request);
+
+        int n = stops.size();
+        double[][] distance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                distance[i][j] = distance[j][i] = walkingDistance(stops.get(i), stops.get(j));
+            }
+        }
+
+        int[] order = RouteOptimizer.order(distance, request.isFixStart());
+
+        List<RouteRequest.Stop> ordered = new ArrayList<>(n);
+        List<RouteResponse.Leg> legs = new ArrayList<>(Math.max(n - 1, 0));
+        double totalMeters = 0;
+        for (int i = 0; i < n; i++) {
+            ordered.add(stops.get(order[i]));
+            if (i == 0) continue;
+
+            double meters = distance[order[i - 1]][order[i]];
+            totalMeters += meters;
+            legs.add(new RouteResponse.Leg(i - 1, i, Math.round(meters), Math.round(meters / walkSpeedMps)));
+        }
+
+        return RouteResponse.builder()
+                .message("SUCCESS")
+                .stops(ordered)
+                .legs(legs)
+                .totalDistanceMeters(Math.round(totalMeters))
+                .totalDurationSeconds(Math.round(totalMeters / walkSpeedMps))
+                .build();
+    }
+
+    /**
+     * placeIds 는 DB 에서 좌표를 채우고 (요청 순서 유지), places 는 그대로 이어 붙임.
+     * 좌표를 알 수 없는 장소는 경로에서 제외.
+     */
+    private List<RouteRequest.Stop> resolveStops(RouteRequest request) {
+        List<RouteRequest.Stop> stops = new ArrayList<>();
+
+        List<Long> ids = request.getPlaceIds() != null ? request.getPlaceIds() : List.of();
+        if (!ids.isEmpty()) {
+            Map<Long, Place> places = placeRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Place::getId, Function.identity()));
+            for (Long id : ids) {
+                Place place = places.get(id);
+                if (place == null) {
+                    log.info("📍 경로 계산: 없는 장소 id 제외 ({})", id);
+                    continue;
+                }
+                stops.add(new RouteRequest.Stop(place.getId(), place.getName(),
+                        place.getLatitude(), place.getLongitude()));
+            }
+        }
+        if (request.getPlaces() != null) {
+            stops.addAll(request.getPlaces());
+        }
+
+        stops.removeIf(stop -> stop == null || stop.getLatitude() == null || stop.getLongitude() == null);
+        return stops;
+    }
+
+    private double walkingDistance(RouteRequest.Stop a, RouteRequest.Stop b) {
+        return haversine(a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude()) * detourFactor;
+    }
+
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.skku.swe_project.route.service;
+
+/**
+ * 거리 행렬 -> 방문 순서 (출발지로 돌아오지 않는 열린 경로).
+ * 코스 장소는 많아야 수십 개라서 정확해(TSP) 대신
+ * 최근접 이웃(nearest-neighbour)으로 초기 경로를 만들고 2-opt 로 교차 구간을 풀어준다.
+ */
+final class RouteOptimizer {
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_TWO_OPT_PASSES = 100;
+
+    private RouteOptimizer() {
+    }
+
+    /**
+     * @param distance  대칭 거리 행렬 (n x n)
+     * @param fixStart  true 면 0번 장소에서 출발, false 면 출발지도 자유롭게 고름
+     * @return 방문 순서 (distance 의 인덱스)
+     */
+    static int[] order(double[][] distance, boolean fixStart) {
+        int n = distance.length;
+        if (n <= 2) {
+            int[] trivial = new int[n];
+            for (int i = 0; i < n; i++) trivial[i] = i;
+            return trivial;
+        }
+
+        // 출발지가 자유면 모든 장소에서 한 번씩 최근접 이웃을 돌려보고 가장 짧은 것을 고름 (n^3, n 이 작아서 충분)
+        int[] best = null;
+        double bestLength = Double.MAX_VALUE;
+        int lastStart = fixStart ? 0 : n - 1;
+        for (int start = 0; start <= lastStart; start++) {
+            int[] candidate = twoOpt(distance, nearestNeighbour(distance, start), fixStart);
+            double length = length(distance, candidate);
+            if (length < bestLength - EPSILON) {
+                best = candidate;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+
+    static int[] nearestNeighbour(double[][] distance, int start) {
+        int n = distance.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        order[0] = start;
+        visited[start] = true;
+
+        for (int step = 1; step < n; step++) {
+            int current = order[step - 1];
+            int next = -1;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (visited[candidate]) continue;
+                if (next < 0 || distance[current][candidate] < distance[current][next]) next = candidate;
+            }
+            order[step] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    /**
+     * 구간 [i + 1, j] 를 뒤집어서 짧아지면 적용, 더 이상 개선이 없을 때까지 반복.
+     * 열린 경로라서 양 끝 간선이 없는 경우(i = -1: 앞부분 뒤집기, j = n - 1: 뒷부분 뒤집기)도 본다.
+     */
+    static int[] twoOpt(double[][] distance, int[] order, boolean fixStart) {
+        int n = order.length;
+        int firstI = fixStart ? 0 : -1;
+
+        boolean improved = true;
+        for (int pass = 0; improved && pass < MAX_TWO_OPT_PASSES; pass++) {
+            improved = false;
+            for (int i = firstI; i < n - 2; i++) {
+                for (int j = i + 2; j < n; j++) {
+                    double before = edge(distance, order, i, i + 1) + edge(distance, order, j, j + 1);
+                    double after = (i >= 0 ? distance[order[i]][order[j]] : 0)
+                            + (j + 1 < n ? distance[order[i + 1]][order[j + 1]] : 0);
+                    if (after < before - EPSILON) {
+                        reverse(order, i + 1, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    static double length(double[][] distance, int[] order) {
+        double total = 0;
+        for (int i = 0; i + 1 < order.length; i++) total += distance[order[i]][order[i + 1]];
+        return total;
+    }
+
+    private static double edge(double[][] distance, int[] order, int from, int to) {
+        if (from < 0 || to >= order.length) return 0;
+        return distance[order[from]][order[to]];
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.skku.swe_project.facade.controller;
+
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import com.skku.swe_project.facade.dto.RecommendationResponse;
+import com.skku.swe_project.facade.service.DateCourseService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecommendationControllerTest {
+
+    private static final String FOOD_ETAG = "\"food-0123abcd\"";
+
+    private final DateCourseService dateCourseService = mock(DateCourseService.class);
+    private final RecommendationController controller = new RecommendationController(dateCourseService, Runnable::run);
+
+    @Test
+    void withoutIfNoneMatchAlwaysReturnsBodyWithEtag() {
+        when(dateCourseService.recommend(eq("강남 파스타"), any(), isNull())).thenReturn(RecommendationResponse.builder()
+                .summary("리포트")
+                .places(List.of())
+                .etag(FOOD_ETAG)
+                .build());
+
+        ResponseEntity<RecommendationResponse> response = controller.getRecommendations(request(), null).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(FOOD_ETAG);
+        assertThat(response.getBody().getMessage()).isEqualTo("SUCCESS");
+        assertThat(response.getBody().getSummary()).isEqualTo("리포트");
+    }
+
+    @Test
+    void clientThatOptsInWithMatchingEtagGetsNotModifiedWithoutBody() {
+        when(dateCourseService.recommend(eq("강남 파스타"), any(), eq(FOOD_ETAG))).thenReturn(RecommendationResponse.builder()
+                .etag(FOOD_ETAG)
+                .notModified(true)
+                .build());
+
+        ResponseEntity<RecommendationResponse> response = controller.getRecommendations(request(), FOOD_ETAG).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(FOOD_ETAG);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void serviceFailureBecomesFailBody() {
+        when(dateCourseService.recommend(any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        ResponseEntity<RecommendationResponse> response = controller.getRecommendations(request(), null).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getMessage()).isEqualTo("FAIL");
+    }
+
+    private static RecommendationRequest request() {
+        return new RecommendationRequest("강남 파스타", List.of());
+    }
+}
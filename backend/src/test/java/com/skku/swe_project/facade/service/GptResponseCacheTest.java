@@ -0,0 +1,87 @@
+package com.skku.swe_project.facade.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GptResponseCacheTest {
+
+    private static final String MODEL = "gpt-4o-mini";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final GptResponseCache cache = new GptResponseCache(new MockEnvironment(), registry, nanos::get);
+
+    @Test
+    void ttlFollowsCallType() {
+        String intentKey = cache.promptKey(GptCallType.INTENT, MODEL, "강남역 맛집");
+        String reviewKey = cache.promptKey(GptCallType.REVIEW_SUMMARY, MODEL, "리뷰들");
+        cache.put(GptCallType.INTENT, intentKey, "{\"intent\":\"FOOD\"}", 10);
+        cache.put(GptCallType.REVIEW_SUMMARY, reviewKey, "조용하고 좋아요", 10);
+
+        // INTENT 기본 TTL 10분, REVIEW_SUMMARY 7일
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        assertThat(cache.get(GptCallType.INTENT, intentKey)).isEmpty();
+        assertThat(cache.get(GptCallType.REVIEW_SUMMARY, reviewKey)).hasValue("조용하고 좋아요");
+
+        nanos.addAndGet(TimeUnit.DAYS.toNanos(7));
+        assertThat(cache.get(GptCallType.REVIEW_SUMMARY, reviewKey)).isEmpty();
+    }
+
+    @Test
+    void ttlCanBeOverriddenPerCallType() {
+        GptResponseCache custom = new GptResponseCache(new MockEnvironment()
+                .withProperty("openai.cache.intent.ttl-minutes", "1"), registry, nanos::get);
+        String key = custom.promptKey(GptCallType.INTENT, MODEL, "홍대 카페");
+        custom.put(GptCallType.INTENT, key, "{\"intent\":\"FOOD\"}", 10);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        assertThat(custom.get(GptCallType.INTENT, key)).isEmpty();
+    }
+
+    @Test
+    void placeSetKeyIgnoresOrder() {
+        String a = cache.placeSetKey(GptCallType.COURSE_SUMMARY, MODEL, List.of(3L, 1L, 2L));
+        String b = cache.placeSetKey(GptCallType.COURSE_SUMMARY, MODEL, List.of(1L, 2L, 3L));
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a).isNotEqualTo(cache.placeSetKey(GptCallType.COURSE_SUMMARY, MODEL, List.of(1L, 2L)));
+        assertThat(a).isNotEqualTo(cache.placeSetKey(GptCallType.FOOD_REPORT, MODEL, List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void placeSetKeyFallsBackToPromptKeyWhenAnIdIsMissing() {
+        assertThat(cache.placeSetKey(GptCallType.COURSE_SUMMARY, MODEL, Arrays.asList(1L, null))).isNull();
+        assertThat(cache.placeSetKey(GptCallType.COURSE_SUMMARY, MODEL, List.of())).isNull();
+
+        // null key 는 조회/저장 모두 건너뜀
+        cache.put(GptCallType.COURSE_SUMMARY, null, "요약", 10);
+        assertThat(cache.get(GptCallType.COURSE_SUMMARY, null)).isEmpty();
+
+        // 프롬프트 key 는 공백 차이만 무시
+        assertThat(cache.promptKey(GptCallType.COURSE_SUMMARY, MODEL, " 코스  요약\n"))
+                .isEqualTo(cache.promptKey(GptCallType.COURSE_SUMMARY, MODEL, "코스 요약"));
+    }
+
+    @Test
+    void fallbackRepliesAreNotCached() {
+        String key = cache.promptKey(GptCallType.FOOD_REPORT, MODEL, "리포트");
+
+        cache.put(GptCallType.FOOD_REPORT, key, OpenAiService.BUSY_REPLY, 10);
+        cache.put(GptCallType.FOOD_REPORT, key, OpenAiService.ERROR_REPLY, 10);
+        cache.put(GptCallType.FOOD_REPORT, key, " ", 10);
+        assertThat(cache.get(GptCallType.FOOD_REPORT, key)).isEmpty();
+
+        cache.put(GptCallType.FOOD_REPORT, key, "리포트 본문", 10);
+        assertThat(cache.get(GptCallType.FOOD_REPORT, key)).hasValue("리포트 본문");
+        assertThat(registry.get("openai.cache.tokens.saved").tag("type", "food-report").counter().count())
+                .isEqualTo(10.0);
+    }
+}
@@ -0,0 +1,73 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryCompactorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HistoryCompactor compactor = new HistoryCompactor(
+            new MockEnvironment()
+                    .withProperty("history.compaction.token-budget", "120")
+                    .withProperty("history.compaction.keep-recent", "2"),
+            new LocationGazetteer(), meterRegistry);
+
+    @Test
+    void shortHistoryIsRenderedVerbatim() {
+        List<RecommendationRequest.Message> history = List.of(
+                user("홍대 카페 추천해줘"),
+                assistant("홍대 카페를 골라봤어요!"));
+
+        assertThat(compactor.render(history))
+                .isEqualTo("[이전 대화 내용]\n- 사용자: 홍대 카페 추천해줘\n- AI: 홍대 카페를 골라봤어요!\n\n");
+        assertThat(compactor.render(null)).isEmpty();
+        assertThat(meterRegistry.counter("openai.prompt.history.compacted").count()).isZero();
+    }
+
+    @Test
+    void olderTurnsAreFoldedIntoDigestAndRecentTurnsKept() {
+        List<RecommendationRequest.Message> history = new ArrayList<>();
+        history.add(user("홍대에서 파스타 맛집 있어?"));
+        history.add(assistant("홍대 파스타 맛집 리포트 ".repeat(20)));
+        history.add(user("강남역 근처 전시회도 보고 싶어"));
+        history.add(assistant("강남역 전시 추천 ".repeat(20)));
+        history.add(user("그럼 성수 쪽은?"));
+        history.add(assistant("성수 추천이에요"));
+
+        String block = compactor.render(history);
+
+        assertThat(block)
+                .contains("(이전 대화 요약) 언급된 지역: 강남역, 홍대")
+                .contains("관심: FOOD(맛집, 파스타), SPOT(전시)")
+                .contains("- 사용자: 그럼 성수 쪽은?", "- AI: 성수 추천이에요")
+                .doesNotContain("리포트");
+        assertThat(TokenEstimator.estimate(block)).isLessThanOrEqualTo(120);
+        assertThat(meterRegistry.summary("openai.prompt.history.tokens", "stage", "raw").totalAmount())
+                .isGreaterThan(meterRegistry.summary("openai.prompt.history.tokens", "stage", "compacted").totalAmount());
+    }
+
+    @Test
+    void oversizedLastTurnIsTruncatedToBudget() {
+        List<RecommendationRequest.Message> history = List.of(user("아주 긴 질문 ".repeat(100)));
+
+        String block = compactor.render(history);
+
+        assertThat(block).startsWith("[이전 대화 내용]\n");
+        assertThat(TokenEstimator.estimate(block)).isLessThanOrEqualTo(125);
+    }
+
+    private static RecommendationRequest.Message user(String content) {
+        return new RecommendationRequest.Message("user", content);
+    }
+
+    private static RecommendationRequest.Message assistant(String content) {
+        return new RecommendationRequest.Message("assistant", content);
+    }
+}
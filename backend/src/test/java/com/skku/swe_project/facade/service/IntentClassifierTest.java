@@ -0,0 +1,73 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.facade.dto.IntentResultDto;
+import com.skku.swe_project.facade.dto.RecommendationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntentClassifierTest {
+
+    private final IntentClassifier classifier = new IntentClassifier(new MockEnvironment(), new LocationGazetteer());
+
+    @Test
+    void obviousIntentAndLocationSkipTheLlm() {
+        IntentResultDto result = classifier.classify("강남역 파스타 맛집 추천해줘", List.of());
+
+        assertThat(result.getIntent()).isEqualTo("FOOD");
+        assertThat(result.getLocation()).isEqualTo("강남역");
+        assertThat(classifier.isConfident(result)).isTrue();
+
+        IntentResultDto attached = classifier.classify("홍대카페 알려줘", List.of());
+        assertThat(attached.getLocation()).isEqualTo("홍대");
+        assertThat(classifier.isConfident(attached)).isTrue();
+    }
+
+    @Test
+    void mixedIntentsAreLeftToTheLlm() {
+        IntentResultDto result = classifier.classify("홍대 맛집 말고 산책할 만한 명소", List.of());
+
+        assertThat(result.getIntent()).isEqualTo("COURSE");
+        assertThat(result.getLocation()).isEqualTo("홍대");
+        assertThat(classifier.isConfident(result)).isFalse();
+    }
+
+    @Test
+    void locationFromHistoryOnlyIsNotConfident() {
+        List<RecommendationRequest.Message> history = List.of(
+                new RecommendationRequest.Message("user", "이번 주말에 성수동 가려고"),
+                new RecommendationRequest.Message("assistant", "성수동 좋아요!"));
+
+        IntentResultDto result = classifier.classify("파스타 맛집 추천해줘", history);
+
+        assertThat(result.getIntent()).isEqualTo("FOOD");
+        assertThat(result.getLocation()).isEqualTo("성수동");
+        assertThat(classifier.isConfident(result)).isFalse();
+    }
+
+    @Test
+    void areaNameInsideAnotherWordIsNotALocation() {
+        IntentResultDto nursing = classifier.classify("수유실 있는 카페", List.of());
+        assertThat(nursing.getLocation()).isNull();
+        assertThat(classifier.isConfident(nursing)).isFalse();
+
+        IntentResultDto shift = classifier.classify("교대근무 끝나고 저녁", List.of());
+        assertThat(shift.getLocation()).isNull();
+        assertThat(classifier.isConfident(shift)).isFalse();
+
+        // 경계가 맞으면 그대로 인정
+        assertThat(classifier.classify("수유역 카페", List.of()).getLocation()).isEqualTo("수유");
+        assertThat(classifier.classify("교대에서 저녁", List.of()).getLocation()).isEqualTo("교대");
+    }
+
+    @Test
+    void disabledClassifierIsNeverConfident() {
+        IntentClassifier disabled = new IntentClassifier(
+                new MockEnvironment().withProperty("intent.local-classifier.enabled", "false"), new LocationGazetteer());
+
+        assertThat(disabled.isConfident(disabled.classify("강남역 파스타 맛집", List.of()))).isFalse();
+    }
+}
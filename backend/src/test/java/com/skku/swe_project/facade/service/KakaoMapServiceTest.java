@@ -0,0 +1,125 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.outbound.ProviderConcurrencyLimiter;
+import com.skku.swe_project.outbound.ProviderGuard;
+import com.skku.swe_project.outbound.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KakaoMapServiceTest {
+
+    private static final String FOUND = "{\"documents\":[{\"x\":\"127.0276\",\"y\":\"37.4979\"}]}";
+    private static final String EMPTY = "{\"documents\":[]}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final AtomicLong nanos = new AtomicLong();
+
+    private KakaoMapService service() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("kakao.geocode-cache.ttl-minutes", "10")
+                .withProperty("kakao.geocode-cache.negative-ttl-seconds", "60")
+                .withProperty("outbound.kakao.max-attempts", "1");
+        ProviderGuard guard = new ProviderGuard(env, new ProviderConcurrencyLimiter(env), registry);
+        return new KakaoMapService(env, restTemplate, guard, new SingleFlight(registry), registry, nanos::get);
+    }
+
+    private void respond(String body) {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(ResponseEntity.ok(body));
+    }
+
+    private void advance(long amount, TimeUnit unit) {
+        nanos.addAndGet(unit.toNanos(amount));
+    }
+
+    @Test
+    void foundCoordinateIsCachedUntilTtl() {
+        respond(FOUND);
+        KakaoMapService service = service();
+
+        KakaoMapService.CoordinateDto first = service.searchCoordinate("강남역");
+        assertThat(first.getLatitude()).isEqualTo(37.4979);
+        assertThat(first.getLongitude()).isEqualTo(127.0276);
+
+        advance(9, TimeUnit.MINUTES);
+        assertThat(service.searchCoordinate("강남역")).isSameAs(first);
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
+
+        advance(2, TimeUnit.MINUTES);
+        service.searchCoordinate("강남역");
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    void noResultIsRememberedOnlyForNegativeTtl() {
+        respond(EMPTY);
+        KakaoMapService service = service();
+
+        assertThat(service.searchCoordinate("없는동네")).isNull();
+        advance(30, TimeUnit.SECONDS);
+        assertThat(service.searchCoordinate("없는동네")).isNull();
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
+
+        advance(31, TimeUnit.SECONDS);
+        respond(FOUND);
+        assertThat(service.searchCoordinate("없는동네")).isNotNull();
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    void transportFailureIsNotNegativelyCached() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new ResourceAccessException("connect timed out"))
+                .thenReturn(ResponseEntity.ok(FOUND));
+        KakaoMapService service = service();
+
+        assertThat(service.searchCoordinate("강남역")).isNull();
+        // 바로 다시 물어도 캐시된 "없음" 이 아니라 실제로 다시 호출
+        assertThat(service.searchCoordinate("강남역")).isNotNull();
+    }
+
+    @Test
+    void normalizedSpellingsShareOneEntry() {
+        respond(FOUND);
+        KakaoMapService service = service();
+
+        service.searchCoordinate("강남역");
+        service.searchCoordinate("  강남역 ");
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
+
+        assertThat(KakaoMapService.normalizeLocation("  Gangnam   Station ")).isEqualTo("gangnam station");
+        assertThat(KakaoMapService.normalizeLocation("강남  역")).isEqualTo("강남 역");
+        assertThat(KakaoMapService.normalizeLocation("강남  역")).isNotEqualTo(KakaoMapService.normalizeLocation("강남역"));
+        assertThat(KakaoMapService.normalizeLocation(null)).isEmpty();
+    }
+
+    @Test
+    void cacheMetricsAreBound() {
+        respond(FOUND);
+        KakaoMapService service = service();
+        service.searchCoordinate("강남역");
+        service.searchCoordinate("강남역");
+
+        assertThat(registry.get("cache.gets").tag("cache", "kakao.geocode").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,47 @@
+package com.skku.swe_project.facade.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiServiceReviewBatchTest {
+
+    // 프롬프트 조립/파싱만 확인하므로 대화 기록 압축기는 필요 없음
+    private final OpenAiService openAiService = OpenAiService.forPrompts(null);
+
+    @Test
+    void parsesSummariesByIdEvenInsideCodeFence() {
+        String content = """
+                ```json
+                {"summaries": [{"id": 2, "summary": "라구가 진한 파스타집"}, {"id": 1, "summary": " 웨이팅 긴 스시 "}]}
+                ```
+                """;
+
+        assertThat(openAiService.parseReviewBatch(content))
+                .containsEntry(1, "웨이팅 긴 스시")
+                .containsEntry(2, "라구가 진한 파스타집")
+                .hasSize(2);
+    }
+
+    @Test
+    void brokenOrPartialResponsesLeaveMissingIdsForFallback() {
+        assertThat(openAiService.parseReviewBatch("요약할 수 없습니다")).isEmpty();
+        assertThat(openAiService.parseReviewBatch(null)).isEmpty();
+        assertThat(openAiService.parseReviewBatch(
+                "{\"summaries\": [{\"id\": 1, \"summary\": \"\"}, {\"id\": \"x\", \"summary\": \"a\"}, {\"id\": 3, \"summary\": \"ok\"}]}"))
+                .containsOnlyKeys(3);
+    }
+
+    @Test
+    void batchPromptNumbersOnlyPendingPlaces() {
+        List<OpenAiService.ReviewSet> places = List.of(
+                new OpenAiService.ReviewSet("캐시된 집", List.of("맛있어요")),
+                new OpenAiService.ReviewSet("스시 오마카세", List.of("신선해요\n또 갈게요")));
+
+        String prompt = openAiService.buildReviewBatchPrompt(places, List.of(1));
+
+        assertThat(prompt).contains("[id: 1] 스시 오마카세", "- 신선해요 또 갈게요").doesNotContain("캐시된 집");
+    }
+}
@@ -0,0 +1,67 @@
+package com.skku.swe_project.facade.service;
+
+import com.skku.swe_project.place.dto.PlaceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationCacheTest {
+
+    private final RecommendationCache cache = new RecommendationCache(new MockEnvironment(), new SimpleMeterRegistry());
+
+    @Test
+    void foodKeyIgnoresSpacingCaseAndWordOrder() {
+        assertThat(RecommendationCache.foodKey("강남역 ", "강남역  파스타"))
+                .isEqualTo(RecommendationCache.foodKey("강남역", "파스타 강남역"));
+        assertThat(RecommendationCache.foodKey("강남역", "강남역 파스타"))
+                .isNotEqualTo(RecommendationCache.foodKey("강남역", "강남역 이자카야"));
+    }
+
+    @Test
+    void foodEntryRoundTripsWithStableEtag() {
+        String key = RecommendationCache.foodKey("강남역", "강남역 파스타");
+        assertThat(cache.getFood(key)).isEmpty();
+
+        RecommendationCache.FoodEntry stored = cache.putFood(key, List.of(place(1L, "파스타집")), "리포트");
+
+        RecommendationCache.FoodEntry cached = cache.getFood(key).orElseThrow();
+        assertThat(cached.summary()).isEqualTo("리포트");
+        assertThat(cached.etag()).isEqualTo(stored.etag());
+        assertThat(stored.etag()).startsWith("\"food-");
+        assertThat(RecommendationCache.matches(stored.etag(), cached.etag())).isTrue();
+    }
+
+    @Test
+    void emptyFoodResultsAreNotCached() {
+        String key = RecommendationCache.foodKey("없는동네", "없는동네 파스타");
+
+        RecommendationCache.FoodEntry entry = cache.putFood(key, List.of(), "리포트");
+
+        assertThat(entry.etag()).isNotNull();
+        assertThat(cache.getFood(key)).isEmpty();
+    }
+
+    @Test
+    void spotEtagDependsOnIntentAndPool() {
+        String version = RecommendationCache.contentHash(List.of(place(1L, "a")), null);
+
+        String spot = RecommendationCache.spotEtag("SPOT", version);
+        String course = RecommendationCache.spotEtag("COURSE", version);
+
+        assertThat(spot).startsWith("W/\"");
+        assertThat(spot).isNotEqualTo(course);
+        assertThat(RecommendationCache.matches("\"other\", " + spot.substring(2), spot)).isTrue();
+        assertThat(RecommendationCache.matches(course, spot)).isFalse();
+        assertThat(RecommendationCache.matches(null, spot)).isFalse();
+        assertThat(RecommendationCache.spotEtag("SPOT",
+                RecommendationCache.contentHash(List.of(place(1L, "b")), null))).isNotEqualTo(spot);
+    }
+
+    private static PlaceDto place(Long id, String name) {
+        return PlaceDto.builder().id(id).name(name).address("서울").rating(4.0).imageUrls(List.of()).build();
+    }
+}
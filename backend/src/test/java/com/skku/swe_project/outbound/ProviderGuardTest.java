@@ -0,0 +1,200 @@
+package com.skku.swe_project.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ProviderGuardTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private ProviderGuard guard(MockEnvironment env) {
+        return new ProviderGuard(env, new ProviderConcurrencyLimiter(env), registry);
+    }
+
+    private static MockEnvironment env() {
+        return new MockEnvironment()
+                .withProperty("outbound.retry.base-backoff-ms", "1")
+                .withProperty("outbound.retry.max-backoff-ms", "5")
+                .withProperty("outbound.google.max-attempts", "3")
+                .withProperty("outbound.google.circuit.failure-threshold", "5");
+    }
+
+    @Test
+    void retriesTooManyRequestsHonoringRetryAfter() {
+        ProviderGuard guard = guard(env());
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = guard.call(OutboundProvider.GOOGLE, () -> {
+            if (calls.incrementAndGet() < 3) throw status(HttpStatus.TOO_MANY_REQUESTS, "0");
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(registry.get("outbound.retry").tag("status", "429").counter().count()).isEqualTo(2);
+        assertThat(guard.circuitState(OutboundProvider.GOOGLE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void doesNotRetryWhenRetryAfterIsTooLong() {
+        ProviderGuard guard = guard(env().withProperty("outbound.retry.max-retry-after-ms", "1000"));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> guard.call(OutboundProvider.GOOGLE, () -> {
+            calls.incrementAndGet();
+            throw status(HttpStatus.SERVICE_UNAVAILABLE, "120");
+        })).isInstanceOf(HttpServerErrorException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsAreNotRetriedAndDoNotTripTheCircuit() {
+        ProviderGuard guard = guard(env().withProperty("outbound.google.circuit.failure-threshold", "1"));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.call(OutboundProvider.GOOGLE, () -> {
+                calls.incrementAndGet();
+                throw status(HttpStatus.NOT_FOUND, null);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(guard.circuitState(OutboundProvider.GOOGLE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedFailuresAndRejectsWithoutCalling() {
+        ProviderGuard guard = guard(env()
+                .withProperty("outbound.kakao.circuit.failure-threshold", "2")
+                .withProperty("outbound.kakao.circuit.open-seconds", "60"));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(OutboundProvider.KAKAO, () -> {
+                calls.incrementAndGet();
+                throw new ResourceAccessException("timeout");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThatThrownBy(() -> guard.call(OutboundProvider.KAKAO, calls::incrementAndGet))
+                .isInstanceOf(ProviderUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(guard.circuitState(OutboundProvider.KAKAO)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(registry.get("outbound.circuit.state").tag("provider", "kakao").gauge().value()).isEqualTo(2.0);
+
+        // 다른 제공자는 영향 없음
+        assertThat(guard.call(OutboundProvider.OPENAI, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void callbackExceptionsDoNotTripTheCircuit() {
+        ProviderGuard guard = guard(env().withProperty("outbound.openai.circuit.failure-threshold", "1"));
+
+        // 스트리밍 중 SSE 클라이언트가 끊긴 경우 - 우리 콜백에서 난 예외
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.call(OutboundProvider.OPENAI, () -> {
+                throw new UncheckedIOException(new IOException("Broken pipe"));
+            })).isInstanceOf(UncheckedIOException.class);
+        }
+        assertThat(guard.circuitState(OutboundProvider.OPENAI)).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        assertThatThrownBy(() -> guard.call(OutboundProvider.OPENAI, () -> {
+            throw new ResourceAccessException("Read timed out");
+        })).isInstanceOf(ResourceAccessException.class);
+        assertThat(guard.circuitState(OutboundProvider.OPENAI)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void doesNotRetryOrStartCallsPastTheCallerDeadline() {
+        ProviderGuard guard = guard(env());
+        AtomicInteger calls = new AtomicInteger();
+
+        // Retry-After(1초)만큼 기다리면 deadline(0.2초)을 넘김 -> 재시도 없이 그대로 실패
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        assertThatThrownBy(() -> ProviderGuard.withDeadline(deadline, () -> guard.call(OutboundProvider.GOOGLE, () -> {
+            calls.incrementAndGet();
+            throw status(HttpStatus.TOO_MANY_REQUESTS, "1");
+        })).get()).isInstanceOf(HttpClientErrorException.class);
+        assertThat(calls.get()).isEqualTo(1);
+
+        // 이미 지난 deadline -> 호출하지 않음
+        long expired = System.nanoTime() - 1;
+        assertThatThrownBy(() -> ProviderGuard.withDeadline(expired, () -> guard.call(OutboundProvider.GOOGLE,
+                calls::incrementAndGet)).get()).isInstanceOf(ProviderUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(1);
+
+        // withDeadline 밖에서는 제한 없음
+        assertThat(guard.call(OutboundProvider.GOOGLE, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void bulkheadWaitIsBoundedByDeadlineAndRefundsRateToken() throws Exception {
+        ProviderGuard guard = guard(env()
+                .withProperty("outbound.kakao.max-concurrency", "1")
+                .withProperty("outbound.acquire-timeout-ms", "5000")
+                .withProperty("outbound.kakao.rate-per-second", "0.001")
+                .withProperty("outbound.kakao.rate-burst", "2"));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 유일한 자리를 다른 스레드가 붙잡고 있음 (토큰 1개 사용)
+        Thread holder = Thread.ofVirtual().start(() -> guard.call(OutboundProvider.KAKAO, () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }));
+        holding.await();
+
+        // acquire-timeout(5초)이 아니라 남은 deadline(0.2초)만큼만 기다리고 거절
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(200);
+        assertThatThrownBy(() -> ProviderGuard.withDeadline(deadline, () -> guard.call(OutboundProvider.KAKAO,
+                () -> "never")).get()).isInstanceOf(ProviderBusyException.class);
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(2));
+
+        // 거절된 호출이 가져갔던 토큰은 반납됨 -> 남은 토큰 1개
+        assertThat(registry.get("outbound.ratelimit.tokens").tag("provider", "kakao").gauge().value())
+                .isCloseTo(1.0, within(0.01));
+
+        release.countDown();
+        holder.join();
+    }
+
+    @Test
+    void parsesRetryAfterSecondsAndHttpDate() {
+        assertThat(ProviderGuard.parseRetryAfterMs("3")).isEqualTo(3000L);
+        assertThat(ProviderGuard.parseRetryAfterMs("Wed, 21 Oct 2015 07:28:00 GMT")).isZero();
+        assertThat(ProviderGuard.parseRetryAfterMs("soon")).isNull();
+        assertThat(ProviderGuard.parseRetryAfterMs(null)).isNull();
+    }
+
+    private static RuntimeException status(HttpStatus status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        byte[] body = new byte[0];
+        return status.is4xxClientError()
+                ? HttpClientErrorException.create(status, status.getReasonPhrase(), headers, body, StandardCharsets.UTF_8)
+                : HttpServerErrorException.create(status, status.getReasonPhrase(), headers, body, StandardCharsets.UTF_8);
+    }
+}
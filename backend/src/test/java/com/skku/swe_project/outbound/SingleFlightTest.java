@@ -0,0 +1,151 @@
+package com.skku.swe_project.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(registry);
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneInvocation() throws Exception {
+        int callers = 8;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> singleFlight.execute(OutboundProvider.KAKAO, "keyword_search", "강남역",
+                        () -> {
+                            invocations.incrementAndGet();
+                            await(release);
+                            return "result";
+                        })));
+            }
+
+            // leader 가 잡고 있는 동안 나머지가 모두 합류할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(coalesced()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void keyIsReleasedAfterCompletion() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        singleFlight.execute(OutboundProvider.GOOGLE, "details", "p1", invocations::incrementAndGet);
+        singleFlight.execute(OutboundProvider.GOOGLE, "details", "p1", invocations::incrementAndGet);
+
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(registry.get("outbound.singleflight.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    void failureIsRethrownAsIs() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        assertThatThrownBy(() -> singleFlight.execute(OutboundProvider.OPENAI, "intent", "k", () -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    @Test
+    void followerWaitsOnlyUntilItsOwnDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = Thread.ofVirtual().start(() -> singleFlight.execute(OutboundProvider.GOOGLE, "details", "p1",
+                () -> {
+                    await(release);
+                    return "late";
+                }));
+        waitForInFlight();
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(100);
+        assertThatThrownBy(() -> ProviderGuard.withDeadline(deadline, () -> singleFlight.execute(
+                OutboundProvider.GOOGLE, "details", "p1", () -> "mine")).get())
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(2));
+
+        release.countDown();
+        leader.join();
+    }
+
+    @Test
+    void leaderDeadlineFailureIsNotSharedAndFollowerRetries() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = pool.submit(() -> singleFlight.execute(OutboundProvider.KAKAO, "geocode", "강남역",
+                    () -> {
+                        invocations.incrementAndGet();
+                        await(release);
+                        throw new DeadlineExceededException(OutboundProvider.KAKAO);
+                    }));
+            waitForInFlight();
+            Future<String> follower = pool.submit(() -> singleFlight.execute(OutboundProvider.KAKAO, "geocode", "강남역",
+                    () -> {
+                        invocations.incrementAndGet();
+                        return "retried";
+                    }));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("retried");
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DeadlineExceededException.class);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    private void waitForInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("outbound.singleflight.inflight").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalesced() {
+        var counter = registry.find("outbound.singleflight").tag("result", "coalesced").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.skku.swe_project.photo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhotoDiskCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PhotoDiskCache cache(long maxBytes) {
+        return new PhotoDiskCache(new MockEnvironment()
+                .withProperty("photo.cache.dir", dir.toString())
+                .withProperty("photo.cache.max-bytes", String.valueOf(maxBytes)), meterRegistry);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFilesOverByteLimit() throws Exception {
+        PhotoDiskCache cache = cache(250);
+        cache.put("a_200.jpg", new byte[100]);
+        cache.put("b_200.jpg", new byte[100]);
+        assertThat(cache.get("a_200.jpg")).isPresent(); // a 를 최근 사용으로
+
+        cache.put("c_200.jpg", new byte[100]);
+
+        assertThat(cache.get("b_200.jpg")).isEmpty();
+        assertThat(Files.exists(dir.resolve("b_200.jpg"))).isFalse();
+        assertThat(cache.get("a_200.jpg")).isPresent();
+        assertThat(cache.totalBytes()).isEqualTo(200);
+        assertThat(meterRegistry.counter("photo.cache.evictions").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void openedChannelStillReadsAfterEviction() throws Exception {
+        PhotoDiskCache cache = cache(150);
+        cache.put("a_200.jpg", new byte[100]);
+
+        try (FileChannel channel = cache.open("a_200.jpg").orElseThrow()) {
+            cache.put("b_200.jpg", new byte[100]); // a 가 밀려나서 삭제됨
+            assertThat(cache.open("a_200.jpg")).isEmpty();
+
+            ByteBuffer buffer = ByteBuffer.allocate(200);
+            while (channel.read(buffer) > 0) {
+                // 끝까지 읽기
+            }
+            assertThat(buffer.position()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void variantsStoredTogetherDoNotEvictEachOther() throws Exception {
+        PhotoDiskCache cache = cache(250);
+        cache.put("old_200.jpg", new byte[100]);
+
+        cache.putAll(Map.of("p_200.jpg", new byte[100], "p_800.jpg", new byte[100]));
+
+        assertThat(cache.open("old_200.jpg")).isEmpty();
+        assertThat(cache.get("p_200.jpg")).isPresent();
+        assertThat(cache.get("p_800.jpg")).isPresent();
+        assertThat(cache.totalBytes()).isEqualTo(200);
+    }
+
+    @Test
+    void indexIsRestoredFromDiskOnRestart() throws Exception {
+        cache(1_000).put("a_400.jpg", new byte[10]);
+        Files.write(dir.resolve("half-written.jpg.tmp"), new byte[5]);
+
+        PhotoDiskCache restarted = cache(1_000);
+
+        assertThat(restarted.get("a_400.jpg")).hasValue(dir.resolve("a_400.jpg"));
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(Files.exists(dir.resolve("half-written.jpg.tmp"))).isFalse();
+    }
+
+    @Test
+    void resizeKeepsAspectRatioAndNeverUpscales() {
+        BufferedImage source = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage small = PhotoService.resize(source, 200);
+        assertThat(small.getWidth()).isEqualTo(200);
+        assertThat(small.getHeight()).isEqualTo(150);
+
+        assertThat(PhotoService.resize(source, 1600).getWidth()).isEqualTo(800);
+        assertThat(PhotoService.isValidReference("Aap_uEA7vb0DDYVJWEaX3O-AtYp77AaswQKSGtDaimt3gt7QCNpdjp1BkdM6acJ96xTec3tsV_ZJNL_JP-lqsVxydG3nh739RE_hepOOL05tfJh2_ranjMadb3VoBYFvF0ma6S24qZ6QJUuV6sSRrhCskSBP5C1myCzsebztMfGvm7ij3gZT")).isTrue();
+        assertThat(PhotoService.isValidReference("../../etc/passwd")).isFalse();
+    }
+}
@@ -0,0 +1,34 @@
+package com.skku.swe_project.photo.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhotoSignerTest {
+
+    private static final String REF = "AUc7tXVk2mQ_photo-reference";
+
+    @Test
+    void acceptsOnlyReferencesItSigned() {
+        PhotoSigner signer = new PhotoSigner(new MockEnvironment().withProperty("photo.signing-key", "secret"));
+        String sig = signer.sign(REF);
+
+        assertThat(signer.verify(REF, sig)).isTrue();
+        assertThat(signer.verify(REF + "x", sig)).isFalse();
+        assertThat(signer.verify(REF, null)).isFalse();
+        assertThat(signer.verify(REF, "%%%")).isFalse();
+        assertThat(signer.verify(REF, sig.substring(1))).isFalse();
+    }
+
+    @Test
+    void signatureIsStableAcrossInstancesAndDependsOnKey() {
+        MockEnvironment keyed = new MockEnvironment().withProperty("google.api.key", "g-key");
+
+        // 재시작해도 DB 에 저장된 경로가 유효해야 함
+        assertThat(new PhotoSigner(keyed).sign(REF)).isEqualTo(new PhotoSigner(keyed).sign(REF));
+        assertThat(new PhotoSigner(keyed).sign(REF))
+                .isNotEqualTo(new PhotoSigner(new MockEnvironment().withProperty("google.api.key", "other")).sign(REF))
+                .matches("[A-Za-z0-9_-]{22}");
+    }
+}
@@ -0,0 +1,62 @@
+package com.skku.swe_project.place.enrichment;
+
+import com.skku.swe_project.food.service.PlaceEnrichmentCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceEnrichmentJobTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void checkpointSurvivesRestartAndCompletesCycle() throws Exception {
+        Path file = dir.resolve("checkpoint.json");
+        assertThat(EnrichmentCheckpoint.load(file).inProgress()).isFalse();
+
+        EnrichmentCheckpoint started = EnrichmentCheckpoint.load(file).startCycle(1_000L);
+        started.advance(100L, 100, 12, 1).save(file);
+
+        EnrichmentCheckpoint resumed = EnrichmentCheckpoint.load(file);
+        assertThat(resumed.inProgress()).isTrue();
+        assertThat(resumed.getLastId()).isEqualTo(100L);
+        assertThat(resumed.getUpdated()).isEqualTo(12);
+
+        resumed.advance(150L, 50, 3, 0).complete(9_000L).save(file);
+        EnrichmentCheckpoint done = EnrichmentCheckpoint.load(file);
+        assertThat(done.inProgress()).isFalse();
+        assertThat(done.getLastCompletedAt()).isEqualTo(9_000L);
+        assertThat(done.getProcessed()).isEqualTo(150);
+    }
+
+    @Test
+    void onlyChangedRowsAreWrittenAndCatalogImagesAreKept() {
+        PlaceEnrichmentJob.Row row = new PlaceEnrichmentJob.Row(7L, "스시 오마카세", "강남구", 4.2f,
+                "신선한 스시", "https://img/1.jpg", List.of("https://img/1.jpg"));
+
+        PlaceEnrichmentCache.Entry same = PlaceEnrichmentCache.Entry.builder()
+                .rating(4.2).photoReferences(List.of("ref")).build();
+        assertThat(PlaceEnrichmentJob.updateParams(row, same, null, ref -> "photo/" + ref)).isNull();
+        assertThat(PlaceEnrichmentJob.updateParams(row, null, "새 요약", ref -> "photo/" + ref)).isNull();
+
+        Object[] params = PlaceEnrichmentJob.updateParams(row, same.toBuilder().rating(4.6).build(), "새 요약",
+                ref -> "photo/" + ref);
+        assertThat(params).containsExactly(4.6f, "새 요약", "https://img/1.jpg", "[\"https://img/1.jpg\"]", 7L);
+    }
+
+    @Test
+    void emptyImagesAreFilledFromGooglePhotos() {
+        PlaceEnrichmentJob.Row row = new PlaceEnrichmentJob.Row(8L, "카페", null, null, null, null, List.of());
+        PlaceEnrichmentCache.Entry detail = PlaceEnrichmentCache.Entry.builder()
+                .photoReferences(List.of("a", "b")).build();
+
+        Object[] params = PlaceEnrichmentJob.updateParams(row, detail, null, ref -> "photo/" + ref);
+
+        assertThat(params).containsExactly(null, null, "photo/a", "[\"photo/a\",\"photo/b\"]", 8L);
+    }
+}
@@ -0,0 +1,97 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceSpatialIndexTest {
+
+    // 서울 중심부 근처 (강남역)
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+
+    @Test
+    void findWithinRadiusMatchesFullScan() {
+        List<Place> places = randomPlaces(5_000, 42);
+        PlaceSpatialIndex index = PlaceSpatialIndex.detached();
+        index.rebuild(places);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * 0.3;
+            double lng = CENTER_LNG + (random.nextDouble() - 0.5) * 0.3;
+
+            assertThat(ids(index.findWithinRadius(lat, lng, 2000, 30)))
+                    .isEqualTo(placeIds(fullScan(places, lat, lng, 2000, 30)));
+        }
+    }
+
+    @Test
+    void findNearestMatchesFullScan() {
+        List<Place> places = randomPlaces(5_000, 43);
+        PlaceSpatialIndex index = PlaceSpatialIndex.detached();
+        index.rebuild(places);
+
+        Random random = new Random(8);
+        for (int i = 0; i < 200; i++) {
+            // 데이터 범위 밖의 점도 섞어서 확인
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * 1.0;
+            double lng = CENTER_LNG + (random.nextDouble() - 0.5) * 1.0;
+
+            assertThat(ids(index.findNearest(lat, lng, 10)))
+                    .isEqualTo(placeIds(fullScan(places, lat, lng, Double.MAX_VALUE, 10)));
+        }
+    }
+
+    @Test
+    void placesWithoutCoordinatesAreSkipped() {
+        PlaceSpatialIndex index = PlaceSpatialIndex.detached();
+        index.rebuild(List.of(
+                Place.builder().id(1L).name("좌표 없음").build(),
+                Place.builder().id(2L).name("강남역").latitude(CENTER_LAT).longitude(CENTER_LNG).build()));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids(index.findWithinRadius(CENTER_LAT, CENTER_LNG, 100, 5))).containsExactly(2L);
+    }
+
+    private static List<Place> fullScan(List<Place> places, double lat, double lng, double radius, int limit) {
+        List<Place> hits = new ArrayList<>();
+        for (Place p : places) {
+            if (PlaceSpatialIndex.haversine(lat, lng, p.getLatitude(), p.getLongitude()) <= radius) {
+                hits.add(p);
+            }
+        }
+        hits.sort(Comparator.comparingDouble(p -> PlaceSpatialIndex.haversine(lat, lng, p.getLatitude(), p.getLongitude())));
+        return hits.subList(0, Math.min(limit, hits.size()));
+    }
+
+    private static List<Place> randomPlaces(int count, long seed) {
+        Random random = new Random(seed);
+        List<Place> places = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            places.add(Place.builder()
+                    .id((long) i)
+                    .name("place-" + i)
+                    // 서울 시내 정도의 범위 (약 40km x 40km)
+                    .latitude(CENTER_LAT + (random.nextDouble() - 0.5) * 0.36)
+                    .longitude(CENTER_LNG + (random.nextDouble() - 0.5) * 0.45)
+                    .build());
+        }
+        return places;
+    }
+
+    private static List<Long> ids(List<PlaceDto> places) {
+        return places.stream().map(PlaceDto::getId).toList();
+    }
+
+    private static List<Long> placeIds(List<Place> places) {
+        return places.stream().map(Place::getId).toList();
+    }
+}
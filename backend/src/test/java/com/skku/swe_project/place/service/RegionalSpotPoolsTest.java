@@ -0,0 +1,107 @@
+package com.skku.swe_project.place.service;
+
+import com.skku.swe_project.facade.service.KakaoMapService;
+import com.skku.swe_project.facade.service.LocationGazetteer;
+import com.skku.swe_project.place.dto.PlaceDto;
+import com.skku.swe_project.place.repository.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegionalSpotPoolsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RegionalSpotPools pools = new RegionalSpotPools(
+            new MockEnvironment()
+                    .withProperty("spot.pools.regions", "강남역,홍대")
+                    .withProperty("spot.pools.promote-after", "2"),
+            new LocationGazetteer(), meterRegistry);
+
+    @Test
+    void seedRegionIsPooledAfterFirstLiveLookup() {
+        assertThat(pools.find("강남역")).isEmpty();
+        pools.offerLiveResult("강남역", SpotCandidates.of(List.of(place(1L), place(2L))));
+
+        assertThat(pools.find(" 강남역 ")).hasValueSatisfying(c -> assertThat(c.places()).hasSize(2));
+        assertThat(meterRegistry.counter("spot.pool.requests", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("spot.pool.requests", "result", "cold").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void poolVersionIsComputedOnceAndFollowsContent() {
+        pools.put("홍대", List.of(place(1L)));
+        String version = pools.find("홍대").orElseThrow().version();
+
+        // 같은 풀을 여러 번 읽어도 같은 version (ETag 가 요청마다 흔들리지 않음)
+        assertThat(pools.find("홍대").orElseThrow().version()).isEqualTo(version);
+        assertThat(version).isEqualTo(SpotCandidates.of(List.of(place(1L))).version());
+
+        pools.put("홍대", List.of(place(1L), place(2L)));
+        assertThat(pools.find("홍대").orElseThrow().version()).isNotEqualTo(version);
+    }
+
+    @Test
+    void unknownRegionIsPromotedAfterRepeatedColdRequests() {
+        pools.offerLiveResult("망원동", SpotCandidates.of(List.of(place(1L))));
+        assertThat(pools.find("망원동")).isEmpty();
+        assertThat(pools.regionsToRefresh()).containsExactly("강남역", "홍대");
+
+        pools.offerLiveResult("망원동", SpotCandidates.of(List.of(place(1L))));
+        assertThat(pools.find("망원동")).isPresent();
+        assertThat(pools.regionsToRefresh()).contains("망원동");
+    }
+
+    @Test
+    void emptyResultKeepsPreviousPoolUntilExplicitRemove() {
+        pools.put("홍대", List.of(place(1L)));
+        pools.put("홍대", List.of());
+        assertThat(pools.find("홍대")).hasValueSatisfying(c -> assertThat(c.places()).hasSize(1));
+
+        pools.remove(" 홍대");
+        assertThat(pools.find("홍대")).isEmpty();
+    }
+
+    @Test
+    void refreshFailureKeepsPreviousPool() {
+        KakaoMapService kakaoMapService = mock(KakaoMapService.class);
+        SpotService spotService = new SpotService(mock(PlaceRepository.class), kakaoMapService,
+                PlaceSpatialIndex.detached(), pools);
+        pools.put("강남역", List.of(place(1L), place(2L)));
+        pools.put("홍대", List.of(place(3L)));
+
+        // 강남역: 좌표 못 찾음 (카카오 오류를 삼킨 경우 등), 홍대: 예외
+        when(kakaoMapService.searchCoordinate("강남역")).thenReturn(null);
+        when(kakaoMapService.searchCoordinate("홍대")).thenThrow(new IllegalStateException("kakao down"));
+
+        spotService.refreshRegionalPools();
+
+        assertThat(pools.find("강남역")).hasValueSatisfying(c -> assertThat(c.places()).hasSize(2));
+        assertThat(pools.find("홍대")).hasValueSatisfying(c -> assertThat(c.places()).hasSize(1));
+    }
+
+    @Test
+    void pickSpotsReturnsDistinctSampleWithoutTouchingCandidates() {
+        List<PlaceDto> candidates = IntStream.range(0, 30).mapToObj(i -> place((long) i)).toList();
+
+        for (int run = 0; run < 200; run++) {
+            List<PlaceDto> spots = SpotService.pickSpots(candidates);
+            assertThat(spots).hasSize(5);
+            assertThat(new HashSet<>(spots)).hasSize(5);
+            assertThat(candidates).containsAll(spots);
+        }
+        assertThat(SpotService.pickSpots(candidates.subList(0, 3))).hasSize(3);
+        assertThat(SpotService.pickSpots(List.of())).isEmpty();
+    }
+
+    private static PlaceDto place(Long id) {
+        return PlaceDto.builder().id(id).name("place-" + id).build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.skku.swe_project.place.snapshot;
+
+import com.skku.swe_project.place.domain.Place;
+import com.skku.swe_project.place.dto.PlaceDto;
+import com.skku.swe_project.place.service.PlaceSpatialIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlaceSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsEntityColumns() throws IOException {
+        Path file = dir.resolve("places.snapshot");
+        PlaceSnapshotWriter.write(file, List.of(
+                Place.builder().id(1L).kakaoId("k1").name("경복궁").category("여행 > 관광,명소 > 고궁")
+                        .address("서울 종로구 사직로 161").latitude(37.5796).longitude(126.9770).rating(4.6f)
+                        .reviewSummary("한복 입고 가면 무료 입장").imageUrl("https://example.com/1.jpg")
+                        .imageUrls(List.of("https://example.com/1.jpg", "https://example.com/2.jpg")).build(),
+                Place.builder().id(2L).name("좌표 없음").category("여행 > 관광,명소 > 고궁").build()));
+
+        PlaceSnapshot snapshot = PlaceSnapshot.open(file);
+
+        assertThat(snapshot.size()).isEqualTo(2);
+        PlaceDto dto = snapshot.toDto(0);
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getName()).isEqualTo("경복궁");
+        assertThat(dto.getAddress()).isEqualTo("서울 종로구 사직로 161");
+        assertThat(dto.getLatitude()).isEqualTo(37.5796);
+        assertThat(dto.getRating()).isEqualTo(4.6f);
+        assertThat(dto.getReviewSummary()).isEqualTo("한복 입고 가면 무료 입장");
+        assertThat(dto.getImageUrls()).containsExactly("https://example.com/1.jpg", "https://example.com/2.jpg");
+        assertThat(snapshot.kakaoId(0)).isEqualTo("k1");
+
+        PlaceDto empty = snapshot.toDto(1);
+        assertThat(empty.getLatitude()).isNull();
+        assertThat(empty.getRating()).isEqualTo(0.0);
+        assertThat(empty.getAddress()).isNull();
+        assertThat(empty.getImageUrls()).isEmpty();
+        assertThat(empty.getCategory()).isEqualTo(dto.getCategory());
+    }
+
+    @Test
+    void indexOverSnapshotMatchesIndexOverEntities() throws IOException {
+        Random random = new Random(11);
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            places.add(Place.builder()
+                    .id((long) i)
+                    .name("place-" + i)
+                    .latitude(37.4979 + (random.nextDouble() - 0.5) * 0.2)
+                    .longitude(127.0276 + (random.nextDouble() - 0.5) * 0.2)
+                    .build());
+        }
+        Path file = dir.resolve("places.snapshot");
+        PlaceSnapshotWriter.write(file, places);
+
+        PlaceSpatialIndex fromEntities = PlaceSpatialIndex.detached();
+        fromEntities.rebuild(places);
+        PlaceSpatialIndex fromSnapshot = PlaceSpatialIndex.detached();
+        fromSnapshot.rebuild(PlaceSnapshot.open(file));
+
+        for (int i = 0; i < 100; i++) {
+            double lat = 37.4979 + (random.nextDouble() - 0.5) * 0.2;
+            double lng = 127.0276 + (random.nextDouble() - 0.5) * 0.2;
+            assertThat(ids(fromSnapshot.findWithinRadius(lat, lng, 1500, 30)))
+                    .isEqualTo(ids(fromEntities.findWithinRadius(lat, lng, 1500, 30)));
+        }
+    }
+
+    @Test
+    void buildsFromJsonWithoutIds() throws IOException {
+        String json = """
+                [{"kakao_id": "k9", "name": "남산타워", "latitude": 37.5512, "longitude": 126.9882,
+                  "rating": 4.4, "imageUrls": ["https://example.com/n.jpg"]}]
+                """;
+        Path file = dir.resolve("places.snapshot");
+        long rows = PlaceSnapshotWriter.writeFromJson(file,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        PlaceSnapshot snapshot = PlaceSnapshot.open(file);
+        assertThat(rows).isEqualTo(1);
+        assertThat(snapshot.id(0)).isNull();
+        assertThat(snapshot.name(0)).isEqualTo("남산타워");
+        assertThat(snapshot.imageUrls(0)).containsExactly("https://example.com/n.jpg");
+    }
+
+    @Test
+    void rejectsForeignFile() throws IOException {
+        Path file = dir.resolve("not-a-snapshot");
+        Files.write(file, new byte[128]);
+
+        assertThatThrownBy(() -> PlaceSnapshot.open(file)).isInstanceOf(IOException.class);
+    }
+
+    private static List<Long> ids(List<PlaceDto> places) {
+        return places.stream().map(PlaceDto::getId).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.skku.swe_project.place.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skku.swe_project.place.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonStringListTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void validArrayPassesThroughVerbatim() {
+        String raw = "[\"https://a/1.jpg\", \"https://a/2.jpg\"]";
+        JsonStringList list = JsonStringList.fromJson(raw);
+
+        assertThat(list.isDecoded()).isFalse();
+        assertThat(list.toString()).isEqualTo(raw);
+        assertThat(list).containsExactly("https://a/1.jpg", "https://a/2.jpg");
+    }
+
+    @Test
+    void nonArrayValuesBecomeEmptyArray() {
+        for (String raw : new String[]{null, "", "   ", "null", "{}", "\"https://a/1.jpg\""}) {
+            JsonStringList list = JsonStringList.fromJson(raw);
+            assertThat(list).as(raw).isEmpty();
+            assertThat(list.toString()).as(raw).isEqualTo("[]");
+        }
+    }
+
+    @Test
+    void malformedArrayBecomesEmptyArrayInsteadOfThrowing() {
+        for (String raw : new String[]{"[\"a\",", "[\"a\",]", "[\"a\"] trailing"}) {
+            JsonStringList list = JsonStringList.fromJson(raw);
+            assertThat(list.toString()).as(raw).isEqualTo("[]");
+            assertThat(list).as(raw).isEmpty();
+        }
+    }
+
+    @Test
+    void placeDtoAlwaysSerializesImageUrlsAsArray() throws Exception {
+        for (String raw : new String[]{"null", "[\"a\",", "{}"}) {
+            PlaceDto dto = PlaceDto.builder().id(1L).imageUrls(JsonStringList.fromJson(raw)).build();
+            assertThat(mapper.readTree(mapper.writeValueAsString(dto)).get("imageUrls").isArray()).as(raw).isTrue();
+        }
+
+        PlaceDto dto = PlaceDto.builder().id(1L).imageUrls(JsonStringList.fromJson("[\"x\"]")).build();
+        assertThat(mapper.readTree(mapper.writeValueAsString(dto)).get("imageUrls").get(0).asText()).isEqualTo("x");
+        assertThat(JsonStringList.of(List.of("y")).toString()).isEqualTo("[\"y\"]");
+    }
+}
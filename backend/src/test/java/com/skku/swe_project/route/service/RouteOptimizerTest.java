@@ -0,0 +1,59 @@
+package com.skku.swe_project.route.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteOptimizerTest {
+
+    @Test
+    void pointsOnALineAreVisitedEndToEnd() {
+        double[] xs = {3, 0, 4, 1, 2};
+        int[] order = RouteOptimizer.order(matrix(xs, new double[xs.length]), false);
+
+        assertThat(RouteOptimizer.length(matrix(xs, new double[xs.length]), order)).isEqualTo(4.0);
+        assertThat(order[0] == 1 || order[0] == 2).isTrue();
+    }
+
+    @Test
+    void fixedStartIsKeptAndCrossingIsRemoved() {
+        // 사각형 꼭짓점: 대각선으로 가로지르는 경로를 2-opt 가 풀어야 함
+        double[] xs = {0, 1, 0, 1};
+        double[] ys = {0, 1, 1, 0};
+        double[][] d = matrix(xs, ys);
+
+        int[] crossing = {0, 1, 2, 3};
+        int[] improved = RouteOptimizer.twoOpt(d, crossing.clone(), true);
+        assertThat(improved[0]).isZero();
+        assertThat(RouteOptimizer.length(d, improved)).isLessThan(RouteOptimizer.length(d, crossing));
+
+        int[] order = RouteOptimizer.order(d, true);
+        assertThat(order[0]).isZero();
+        assertThat(RouteOptimizer.length(d, order)).isEqualTo(3.0);
+    }
+
+    @Test
+    void everyStopIsVisitedExactlyOnce() {
+        double[] xs = {5, 1, 9, 3, 7, 2, 8, 4, 6, 0};
+        double[] ys = {2, 8, 1, 6, 3, 9, 0, 5, 7, 4};
+        int[] order = RouteOptimizer.order(matrix(xs, ys), false);
+
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        assertThat(sorted).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(RouteOptimizer.order(new double[0][0], false)).isEmpty();
+    }
+
+    private static double[][] matrix(double[] xs, double[] ys) {
+        int n = xs.length;
+        double[][] d = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                d[i][j] = Math.hypot(xs[i] - xs[j], ys[i] - ys[j]);
+            }
+        }
+        return d;
+    }
+}
@@ -61,6 +61,10 @@ const apiClient = axios.create({
     }
 });
 
+// 백엔드 사진 프록시(/api/photos/...)는 상대 경로로 올 수 있으므로 백엔드 주소 기준으로 변환
+const resolveImageUrl = (url: string): string =>
+    url.startsWith('/') ? new URL(url, apiClient.defaults.baseURL).toString() : url;
+
 export interface SimpleMessage {
     role: 'user' | 'assistant';
     content: string;
@@ -96,7 +100,7 @@ export const getRecommendation = async (
             rating: p.rating === 0.0 ? 4.5 : p.rating, // 0.0점이면 4.5점으로 보정 (선택사항)
             reviewSummary: p.reviewSummary || "AI가 추천하는 장소입니다.",
             imageUrls: p.imageUrls && p.imageUrls.length > 0
-                ? p.imageUrls
+                ? p.imageUrls.map(resolveImageUrl)
                 : ["https://via.placeholder.com/300x200?text=No+Image"] // 이미지 없으면 기본 이미지
         }));
 